@@ -0,0 +1,59 @@
+#!/bin/bash
+# Times the CLI reporting the AppCDS training corpus, started without and with the class data
+# archive, so the archive can be judged on this machine and JDK. No result is implied: the archive
+# is optional. Build the CLI first: mvn -Pappcds package -pl tabletest-reporter-cli -am
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(cd "$SCRIPT_DIR/.." && pwd)"
+CLI_DIR="$PROJECT_ROOT/tabletest-reporter-cli"
+LAUNCHER="$CLI_DIR/target/tabletest-reporter"
+CORPUS="$CLI_DIR/src/cds/junit-jupiter"
+RUNS="${RUNS:-10}"
+FORMAT="${FORMAT:-html}"
+
+if [ ! -f "$LAUNCHER" ] || [ ! -f "$CLI_DIR/target/tabletest-reporter-cli.jsa" ]; then
+    echo "No launcher or archive in $CLI_DIR/target; run: mvn -Pappcds package -pl tabletest-reporter-cli -am" >&2
+    exit 2
+fi
+
+OUT_DIR="$(mktemp -d)"
+trap 'rm -rf "$OUT_DIR"' EXIT
+
+# Prints the current time in milliseconds. `date +%s%N` is GNU only, and the bash that macOS ships
+# predates EPOCHREALTIME, so fall back to perl, which both macOS and the BSDs carry.
+now_millis() {
+    if [ -n "${EPOCHREALTIME:-}" ]; then
+        local now=${EPOCHREALTIME/[.,]/}
+        echo $((10#$now / 1000))
+    else
+        perl -MTime::HiRes=time -e 'printf "%d\n", time() * 1000'
+    fi
+}
+
+# Prints the median wall time in milliseconds of $RUNS reports, with TABLETEST_REPORTER_CDS set to $1
+median_millis() {
+    local cds=$1
+    local times=()
+    for ((i = 0; i < RUNS; i++)); do
+        local start end
+        start=$(now_millis)
+        TABLETEST_REPORTER_CDS="$cds" sh "$LAUNCHER" -f "$FORMAT" -i "$CORPUS" -o "$OUT_DIR/$i" > /dev/null
+        end=$(now_millis)
+        times+=($((end - start)))
+    done
+    printf '%s\n' "${times[@]}" | sort -n | sed -n "$(((RUNS + 1) / 2))p"
+}
+
+# One run each to warm the file system cache
+median_millis off > /dev/null
+RUNS=1 median_millis "$CLI_DIR/target/tabletest-reporter-cli.jsa" > /dev/null
+
+WITHOUT=$(median_millis off)
+WITH=$(median_millis "$CLI_DIR/target/tabletest-reporter-cli.jsa")
+
+echo "Reporting the training corpus as $FORMAT, median of $RUNS runs:"
+echo "  without class data archive: ${WITHOUT} ms"
+echo "  with class data archive:    ${WITH} ms"
+echo "  on $(uname -sm), $("${JAVA_HOME:+$JAVA_HOME/bin/}java" -version 2>&1 | head -n 1)"
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.cli;
+
+import picocli.CommandLine;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The training run an AppCDS archive of the CLI is dumped from. It reports a small corpus of
+ * TableTest output in every built-in format, and as a single HTML file, and lists the formats, so
+ * the archive holds the classes a real run loads: picocli, Pebble with its compiled templates,
+ * snakeyaml-engine and the reporter itself. Run it with {@code -XX:ArchiveClassesAtExit}; the
+ * {@code appcds} profile of this module does.
+ */
+final class CdsTraining {
+
+    private static final Map<String, List<String>> RUNS = Map.of(
+            "html", List.of("-f", "html"),
+            "html-single-file", List.of("-f", "html", "--single-file"),
+            "html-compressed", List.of("-f", "html", "--single-file", "--compress-sections"),
+            "markdown", List.of("-f", "markdown"),
+            "asciidoc", List.of("-f", "asciidoc"));
+
+    private CdsTraining() {}
+
+    /**
+     * @param args the corpus directory, then the directory the training reports are written to
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: CdsTraining <corpus directory> <output directory>");
+            System.exit(2);
+        }
+        System.exit(train(Path.of(args[0]), Path.of(args[1])));
+    }
+
+    /** Runs every training report, returning 0 if all of them succeeded. */
+    static int train(Path corpus, Path out) {
+        int failed = 0;
+        for (Map.Entry<String, List<String>> run : RUNS.entrySet()) {
+            List<String> arguments = new ArrayList<>(run.getValue());
+            arguments.addAll(List.of(
+                    "-i", corpus.toString(),
+                    "-o", out.resolve(run.getKey()).toString(),
+                    "--generated-at", "0"));
+            failed += execute(arguments);
+        }
+        failed += execute(List.of("--list-formats"));
+        return failed == 0 ? 0 : 1;
+    }
+
+    private static int execute(List<String> arguments) {
+        int exit = new CommandLine(new TableTestReporterCli()).execute(arguments.toArray(String[]::new));
+        if (exit != 0) {
+            System.err.printf("Training run %s failed with exit code %d%n", arguments, exit);
+        }
+        return exit == 0 ? 0 : 1;
+    }
+}
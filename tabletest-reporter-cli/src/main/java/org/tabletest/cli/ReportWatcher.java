@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches directories of TableTest output for YAML that appears, changes or goes away. A test run
+ * writes its files in a burst, so a change is reported only once the directories have been quiet
+ * for a moment: one report follows one run, not one file. Directories created inside a watched one
+ * are watched too, and a watched directory that is deleted — a clean build — is watched again once
+ * it is back.
+ */
+final class ReportWatcher implements Closeable {
+
+    /** How long the output must stay unchanged before a burst of writes counts as done. */
+    static final Duration QUIET_PERIOD = Duration.ofMillis(200);
+
+    /** How often to look for a deleted input directory coming back. */
+    private static final Duration RESCAN_PERIOD = Duration.ofSeconds(1);
+
+    private static final String FILE_PREFIX = "TABLETEST-";
+    private static final String FILE_EXTENSION = ".yaml";
+
+    private final WatchService service;
+    private final List<Path> roots;
+    private final Map<WatchKey, Path> watched = new HashMap<>();
+
+    ReportWatcher(List<Path> roots) throws IOException {
+        this.service = FileSystems.getDefault().newWatchService();
+        this.roots = roots.stream().map(root -> root.toAbsolutePath().normalize()).toList();
+        for (Path root : this.roots) {
+            if (Files.isDirectory(root)) {
+                watchTree(root);
+            }
+        }
+    }
+
+    /**
+     * Waits until TableTest output changed and then stayed quiet for {@link #QUIET_PERIOD}.
+     *
+     * @return true once there is a change to report, false when the watcher was closed
+     */
+    boolean awaitChange() throws InterruptedException {
+        boolean changed = false;
+        try {
+            while (true) {
+                Duration wait = changed ? QUIET_PERIOD : RESCAN_PERIOD;
+                WatchKey key = service.poll(wait.toMillis(), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    changed |= handle(key);
+                } else if (changed) {
+                    return true;
+                } else {
+                    changed = watchReturnedRoots();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        service.close();
+    }
+
+    private boolean handle(WatchKey key) {
+        Path directory = watched.get(key);
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || directory == null) {
+                changed = true;
+                continue;
+            }
+            Path entry = directory.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(entry)) {
+                // Files written before the new directory was watched raised no event of their own
+                changed |= watchTree(entry);
+            } else if (event.kind() == ENTRY_DELETE) {
+                changed |= isTableTestOutput(entry) || watched.containsValue(entry);
+            } else {
+                changed |= isTableTestOutput(entry);
+            }
+        }
+        if (!key.reset()) {
+            watched.remove(key);
+        }
+        return changed;
+    }
+
+    /** Watches an input directory that was deleted and has been created again. */
+    private boolean watchReturnedRoots() {
+        boolean changed = false;
+        for (Path root : roots) {
+            if (Files.isDirectory(root) && !watched.containsValue(root)) {
+                changed |= watchTree(root);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Watches a directory and everything below it.
+     *
+     * @return whether the tree already holds TableTest output
+     */
+    private boolean watchTree(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            boolean holdsOutput = false;
+            for (Path path : paths.toList()) {
+                if (Files.isDirectory(path)) {
+                    watched.put(path.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), path);
+                } else {
+                    holdsOutput |= isTableTestOutput(path);
+                }
+            }
+            return holdsOutput;
+        } catch (IOException e) {
+            // Gone again before it could be watched; the deletion is reported on its own
+            return false;
+        }
+    }
+
+    private static boolean isTableTestOutput(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_EXTENSION);
+    }
+}
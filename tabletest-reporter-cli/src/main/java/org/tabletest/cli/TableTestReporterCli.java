@@ -23,15 +23,26 @@ import org.tabletest.reporter.ReportConfiguration;
 import org.tabletest.reporter.ReportConfigurationResolver;
 import org.tabletest.reporter.ReportOptions;
 import org.tabletest.reporter.ReportResult;
+import org.tabletest.reporter.ReporterCache;
 import org.tabletest.reporter.TableTestReporter;
+import org.tabletest.reporter.VariantOptions;
 import picocli.CommandLine;
+import picocli.CommandLine.ArgGroup;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.stream.Stream;
 
 @Command(
         name = "tabletest-reporter",
@@ -79,12 +90,70 @@ public final class TableTestReporterCli implements Callable<Integer> {
             description = "Assemble the whole report into one self-contained file (html format only)")
     private boolean singleFile;
 
+    @Option(
+            names = {"--compress-sections"},
+            description = "With --single-file, embed each table compressed and show it once it is scrolled to or "
+                    + "opened, so a large report stays small and opens quickly")
+    private boolean compressSections;
+
     @Option(
             names = {"-c", "--config"},
             description = "Report configuration file with spec title, intro, feature order and "
                     + "publish selection (default: ./tabletest-reporter.yaml)")
     private String configFileArg;
 
+    @Option(
+            names = {"--generated-at"},
+            description = "Generation time to state in the report, as an ISO-8601 instant or seconds since "
+                    + "the epoch, so unchanged input yields identical output (default: $SOURCE_DATE_EPOCH, "
+                    + "else the time of the run)")
+    private String generatedAtArg;
+
+    @Option(
+            names = {"--rows-per-page"},
+            description = "Most rows a table page holds; a larger table continues on further pages "
+                    + "(default: 0, one page per table)")
+    private Integer rowsPerPage;
+
+    @Option(
+            names = {"--virtualize-above"},
+            description = "Most rows an html table page lays out at once; a page of more rows lays out only "
+                    + "those in view as the reader scrolls (default: 0, every row)")
+    private Integer virtualizeAbove;
+
+    @Option(
+            names = {"--also"},
+            paramLabel = "FORMAT=DIR",
+            description = "Also render the report in FORMAT into DIR, from the same loaded test output. "
+                    + "Repeat for more formats; the formats render at the same time")
+    private Map<String, Path> additionalOutputs;
+
+    @ArgGroup(exclusive = false, multiplicity = "0..*")
+    private List<VariantArgs> variantArgs;
+
+    @Option(
+            names = {"--serve"},
+            description = "Keep running and read report requests from standard input, one line of options per "
+                    + "request, answering each with its output and an 'exit <code>' line. Templates and parsed "
+                    + "YAML stay in memory between requests. Ends at 'quit' or the end of input")
+    private boolean serve;
+
+    @Option(
+            names = {"-w", "--watch"},
+            description = "After generating, keep watching the input directories and update the report as "
+                    + "TableTest output appears or changes, rendering only the pages that changed")
+    private boolean watch;
+
+    private final ReporterCache cache; // set while answering a request in serve mode
+
+    public TableTestReporterCli() {
+        this(null);
+    }
+
+    private TableTestReporterCli(ReporterCache cache) {
+        this.cache = cache;
+    }
+
     public static void main(String[] args) {
         int exit = new CommandLine(new TableTestReporterCli()).execute(args);
         System.exit(exit);
@@ -92,6 +161,13 @@ public final class TableTestReporterCli implements Callable<Integer> {
 
     @Override
     public Integer call() {
+        if (serve) {
+            if (cache != null) {
+                System.err.println("Already serving: a request cannot start another server");
+                return 2;
+            }
+            return serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+        }
         if (listFormats) {
             Path templateDir = resolveTemplateDirLenient();
             String formats = FormatLister.listFormats(templateDir);
@@ -110,14 +186,27 @@ public final class TableTestReporterCli implements Callable<Integer> {
                 return 2;
             }
 
-            ReportConfiguration config = ReportConfigurationResolver.resolve(
-                    new ReportOptions(format, rawTemplateDir(), indexDepthArg, singleFile, resolveConfigFile()));
-            ReportResult result = new TableTestReporter(config).report(in, out);
-            if (result.filesGenerated() == 0) {
-                System.err.println(result.message());
-            } else {
-                System.out.printf("Generated %d documentation file(s)%n", result.filesGenerated());
+            ReportConfiguration config = ReportConfigurationResolver.resolve(new ReportOptions(
+                    format,
+                    rawTemplateDir(),
+                    indexDepthArg,
+                    singleFile,
+                    resolveConfigFile(),
+                    generatedAtArg,
+                    rowsPerPage,
+                    additionalOutputs,
+                    variants(),
+                    compressSections,
+                    virtualizeAbove));
+            if (watch) {
+                if (cache != null) {
+                    System.err.println("A serve request cannot watch: it would never answer");
+                    return 2;
+                }
+                return watch(config, in, out);
             }
+            TableTestReporter reporter = cache != null ? cache.reporter(config) : new TableTestReporter(config);
+            printResult(reporter.report(in, out));
             return 0;
         } catch (IllegalArgumentException e) {
             System.err.println(e.getMessage());
@@ -128,6 +217,132 @@ public final class TableTestReporterCli implements Callable<Integer> {
         }
     }
 
+    private static void printResult(ReportResult result) {
+        if (result.message() != null) {
+            System.err.println(result.message());
+        } else {
+            System.out.printf("Generated %d documentation file(s)%n", result.filesGenerated());
+        }
+    }
+
+    /**
+     * Keeps the report current until the process is stopped. After the first full report, each
+     * burst of new or rewritten TableTest output renders only the pages whose content changed —
+     * the rerun tables, the pages listing them and the search index — from templates and YAML
+     * kept in memory. A failed update is reported and the watch goes on, since the next test run
+     * may well fix it. Templates and the configuration file are read once, at the start.
+     */
+    private static int watch(ReportConfiguration config, List<Path> in, Path out)
+            throws IOException, InterruptedException {
+        ReporterCache warm = new ReporterCache();
+        Path records = Files.createTempDirectory("tabletest-reporter-pages");
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteRecords(records)));
+        Path pageRecord = records.resolve("pages.digest");
+        try (ReportWatcher watcher = new ReportWatcher(in)) {
+            printResult(warm.reporter(config).update(in, out, pageRecord));
+            System.out.printf("Watching %s for TableTest output; press Ctrl+C to stop%n", in);
+            while (watcher.awaitChange()) {
+                try {
+                    ReportResult result = warm.reporter(config).update(in, out, pageRecord);
+                    if (result.message() != null) {
+                        System.err.println(result.message());
+                    } else {
+                        System.out.printf("Updated %d documentation file(s)%n", result.filesGenerated());
+                    }
+                } catch (RuntimeException e) {
+                    System.err.printf("Failed to update report: %s%n", e.getMessage());
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Deletes the directory holding the page records of a watch, the record of each additional
+     * output and variant beside the report's own, as the process exits.
+     */
+    private static void deleteRecords(Path records) {
+        try (Stream<Path> files = Files.walk(records)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            System.err.printf("Failed to delete the page records in %s: %s%n", records, e.getMessage());
+        }
+    }
+
+    /**
+     * Answers report requests until told to quit or the input ends. Each request is the options of
+     * one run on a line of its own, quoted as a shell would for a value holding spaces; its output
+     * is followed by {@code exit <code>}, so a caller knows when the request is done. Relative paths
+     * resolve against the directory the server was started in.
+     */
+    private static int serve(BufferedReader requests) {
+        ReporterCache warm = new ReporterCache();
+        try {
+            String line;
+            while ((line = requests.readLine()) != null) {
+                String request = line.strip();
+                if (request.isEmpty()) {
+                    continue;
+                }
+                if (request.equals("quit")) {
+                    break;
+                }
+                int exit;
+                try {
+                    exit = new CommandLine(new TableTestReporterCli(warm)).execute(splitArguments(request));
+                } catch (IllegalArgumentException e) {
+                    System.err.println(e.getMessage());
+                    exit = 2;
+                }
+                System.out.println("exit " + exit);
+                System.out.flush();
+            }
+            return 0;
+        } catch (IOException e) {
+            System.err.printf("Failed to read report request: %s%n", e.getMessage());
+            return 1;
+        }
+    }
+
+    /** Splits a request line into arguments at whitespace outside single or double quotes. */
+    static String[] splitArguments(String request) {
+        List<String> arguments = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inArgument = false;
+        char quote = 0;
+        for (int i = 0; i < request.length(); i++) {
+            char c = request.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                inArgument = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inArgument) {
+                    arguments.add(current.toString());
+                    current.setLength(0);
+                    inArgument = false;
+                }
+            } else {
+                current.append(c);
+                inArgument = true;
+            }
+        }
+        if (quote != 0) {
+            throw new IllegalArgumentException("Unterminated quote in request: " + request);
+        }
+        if (inArgument) {
+            arguments.add(current.toString());
+        }
+        return arguments.toArray(String[]::new);
+    }
+
     /**
      * The directories to report from: several given ones merged into one report (a module that does
      * not exist is skipped with a warning), a single given one, or the auto-detected default.
@@ -166,6 +381,15 @@ public final class TableTestReporterCli implements Callable<Integer> {
                 : Path.of(configFileArg);
     }
 
+    private List<VariantOptions> variants() {
+        if (variantArgs == null) {
+            return null;
+        }
+        return variantArgs.stream()
+                .map(variant -> new VariantOptions(variant.name, variant.configFile, variant.outputDirectory))
+                .toList();
+    }
+
     private Path rawTemplateDir() {
         if (templateDirArg == null || templateDirArg.isBlank()) {
             return null;
@@ -194,4 +418,28 @@ public final class TableTestReporterCli implements Callable<Integer> {
         // Fallback to Maven-style if neither exists
         return mavenTarget;
     }
+
+    /** One variant of the report: its name, the configuration file curating it, and where it goes. */
+    static final class VariantArgs {
+
+        @Option(
+                names = {"--variant"},
+                required = true,
+                description = "Also render a variant of the report under this name, from the same loaded test "
+                        + "output. Repeat with its --variant-config and --variant-output for more variants")
+        String name;
+
+        @Option(
+                names = {"--variant-config"},
+                required = true,
+                description = "Configuration file with the variant's spec title, intro, feature order and "
+                        + "publish selection")
+        Path configFile;
+
+        @Option(
+                names = {"--variant-output"},
+                required = true,
+                description = "Output directory for the variant's pages")
+        Path outputDirectory;
+    }
 }
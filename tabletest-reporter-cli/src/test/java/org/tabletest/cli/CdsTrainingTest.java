@@ -0,0 +1,26 @@
+package org.tabletest.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CdsTrainingTest {
+
+    private static final Path CORPUS = Path.of("src/cds/junit-jupiter");
+
+    @TempDir
+    Path outDir;
+
+    @Test
+    void reports_the_training_corpus_in_every_format() {
+        assertThat(CdsTraining.train(CORPUS, outDir)).isZero();
+
+        assertThat(outDir.resolve("html/leap-year-test/leap-years.html")).exists();
+        assertThat(outDir.resolve("html-single-file/index.html")).exists();
+        assertThat(outDir.resolve("markdown/slugify-test/slugify.md")).exists();
+        assertThat(outDir.resolve("asciidoc/index.adoc")).exists();
+    }
+}
@@ -0,0 +1,59 @@
+package org.tabletest.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(10)
+class ReportWatcherTest {
+
+    @TempDir
+    Path inputDir;
+
+    @Test
+    void reports_output_written_into_a_directory_created_after_watching_began() throws Exception {
+        try (ReportWatcher watcher = new ReportWatcher(List.of(inputDir))) {
+            Path tableDir = Files.createDirectories(inputDir.resolve("org.example.CalendarTest/rule(String)"));
+            Files.writeString(tableDir.resolve("TABLETEST-rule.yaml"), "\"title\": \"Rule\"\n");
+
+            assertThat(watcher.awaitChange()).isTrue();
+        }
+    }
+
+    @Test
+    void reports_rewritten_output_once_the_burst_is_over() throws Exception {
+        Path output = Files.writeString(inputDir.resolve("TABLETEST-rule.yaml"), "\"title\": \"Rule\"\n");
+        try (ReportWatcher watcher = new ReportWatcher(List.of(inputDir))) {
+            for (int run = 0; run < 5; run++) {
+                Files.writeString(output, "\"title\": \"Rule " + run + "\"\n");
+            }
+
+            long started = System.nanoTime();
+            assertThat(watcher.awaitChange()).isTrue();
+            assertThat(System.nanoTime() - started).isGreaterThanOrEqualTo(ReportWatcher.QUIET_PERIOD.toNanos());
+        }
+    }
+
+    @Test
+    void stops_waiting_when_closed() throws Exception {
+        ReportWatcher watcher = new ReportWatcher(List.of(inputDir));
+        Thread closer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                watcher.close();
+            } catch (InterruptedException | IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        closer.start();
+
+        assertThat(watcher.awaitChange()).isFalse();
+    }
+}
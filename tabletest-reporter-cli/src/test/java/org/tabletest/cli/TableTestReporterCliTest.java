@@ -4,9 +4,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import picocli.CommandLine;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -102,6 +105,43 @@ class TableTestReporterCliTest {
         assertThat(content).contains("---");
     }
 
+    @Test
+    void renders_additional_formats_into_their_own_directories() throws IOException {
+        Path inputDir = setupInputDirectory(tempDir);
+        Path outputDir = tempDir.resolve("output");
+        Path wikiDir = tempDir.resolve("wiki");
+
+        CliResult result = runCli(
+                "--input", inputDir.toString(),
+                "--output", outputDir.toString(),
+                "--format", "html",
+                "--also", "markdown=" + wikiDir);
+
+        assertThat(result.exitCode()).isZero();
+        assertThat(findGeneratedFile(outputDir, ".html")).exists();
+        assertThat(findGeneratedFile(wikiDir, ".md")).exists();
+    }
+
+    @Test
+    void renders_each_variant_with_its_own_configuration() throws IOException {
+        Path inputDir = setupInputDirectory(tempDir);
+        Path outputDir = tempDir.resolve("output");
+        Path customerDir = tempDir.resolve("customer");
+        Path customerConfig = Files.writeString(tempDir.resolve("customer.yaml"), "title: \"Customer Spec\"\n");
+
+        CliResult result = runCli(
+                "--input", inputDir.toString(),
+                "--output", outputDir.toString(),
+                "--format", "markdown",
+                "--variant", "customer",
+                "--variant-config", customerConfig.toString(),
+                "--variant-output", customerDir.toString());
+
+        assertThat(result.exitCode()).isZero();
+        assertThat(Files.readString(customerDir.resolve("index.md"))).contains("Customer Spec");
+        assertThat(Files.readString(outputDir.resolve("index.md"))).doesNotContain("Customer Spec");
+    }
+
     @Test
     void accepts_md_as_format_alias() throws IOException {
         Path inputDir = setupInputDirectory(tempDir);
@@ -287,6 +327,57 @@ class TableTestReporterCliTest {
     }
 
     /** One module's TableTest output: a single class with a single table. */
+    @Test
+    void serve_answers_each_request_until_the_input_ends() throws IOException {
+        Path inputDir = setupInputDirectory(tempDir);
+        Path first = tempDir.resolve("first output");
+        Path second = tempDir.resolve("second");
+
+        CliResult result = runServe("""
+                --input %s --output '%s' --format asciidoc
+
+                --input %s --output %s --format markdown
+                """.formatted(inputDir, first, inputDir, second));
+
+        assertThat(result.exitCode()).isZero();
+        assertThat(result.stdout().lines().filter(line -> line.equals("exit 0"))).hasSize(2);
+        assertThat(findGeneratedFile(first, ".adoc")).exists();
+        assertThat(findGeneratedFile(second, ".md")).exists();
+    }
+
+    @Test
+    void serve_keeps_running_after_a_failed_request() throws IOException {
+        Path inputDir = setupInputDirectory(tempDir);
+        Path outputDir = tempDir.resolve("output");
+
+        CliResult result = runServe("""
+                --input %s --output %s --format invalid-format
+                --input %s --output %s --format markdown
+                quit
+                --input %s --output %s
+                """.formatted(inputDir, outputDir, inputDir, outputDir, inputDir, tempDir.resolve("never")));
+
+        assertThat(result.stdout()).containsSubsequence("exit 2", "exit 0");
+        assertThat(findGeneratedFile(outputDir, ".md")).exists();
+        assertThat(tempDir.resolve("never")).doesNotExist();
+    }
+
+    @Test
+    void serve_refuses_a_request_to_watch() throws IOException {
+        Path inputDir = setupInputDirectory(tempDir);
+
+        CliResult result = runServe("--input %s --output %s --watch%n".formatted(inputDir, tempDir.resolve("out")));
+
+        assertThat(result.stdout()).contains("exit 2");
+        assertThat(result.stderr()).contains("cannot watch");
+    }
+
+    @Test
+    void serve_splits_requests_at_whitespace_outside_quotes() {
+        assertThat(TableTestReporterCli.splitArguments("-i \"a dir\"  -o 'b dir' -f md"))
+                .containsExactly("-i", "a dir", "-o", "b dir", "-f", "md");
+    }
+
     private Path setupModuleInput(String module, String className, String slug) throws IOException {
         Path inputDir = tempDir.resolve(module);
         Path classDir = inputDir.resolve(className);
@@ -360,6 +451,16 @@ class TableTestReporterCliTest {
         }
     }
 
+    private CliResult runServe(String requests) {
+        InputStream originalIn = System.in;
+        try {
+            System.setIn(new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8)));
+            return runCli("--serve");
+        } finally {
+            System.setIn(originalIn);
+        }
+    }
+
     private Path findGeneratedFile(Path outputDir, String extension) throws IOException {
         try (var files = Files.walk(outputDir)) {
             List<Path> matches =
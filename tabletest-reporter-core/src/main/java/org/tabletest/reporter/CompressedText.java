@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Text gzipped and base64-encoded, ready to embed in an HTML attribute or a JavaScript string.
+ * A compressed single-file report carries its tables and its search index this way; the page
+ * decodes them with the browser's own {@code DecompressionStream("gzip")} once they are needed.
+ * <p>
+ * The text is compressed as it is written, so only the encoded form is ever held whole.
+ */
+final class CompressedText {
+
+    /** Writes the text to compress. */
+    @FunctionalInterface
+    interface Content {
+        void writeTo(Writer out) throws IOException;
+    }
+
+    private CompressedText() {}
+
+    static String of(String text) {
+        return of(out -> out.write(text));
+    }
+
+    static String of(Content content) {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (OutputStream base64 = Base64.getEncoder().wrap(encoded);
+                Writer out = new OutputStreamWriter(new GZIPOutputStream(base64), StandardCharsets.UTF_8)) {
+            content.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unexpected failure compressing in memory", e);
+        }
+        return encoded.toString(StandardCharsets.ISO_8859_1);
+    }
+}
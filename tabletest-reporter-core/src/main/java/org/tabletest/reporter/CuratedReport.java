@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.util.Map;
+
+/**
+ * A curated report tree ready to render, together with the aggregate status of each of its pages
+ * as {@link ReportCuration} rolled it up. The index, navigation, search and single-file models all
+ * show a page's status, so reading it here keeps a render from rolling the same subtree up again
+ * for every page that links to it. Read-only once curated, so outputs rendering concurrently can
+ * share it.
+ */
+final class CuratedReport {
+
+    private final ReportNode root;
+    private final Map<ReportNode, ReportStatus> statuses;
+
+    CuratedReport(ReportNode root, Map<ReportNode, ReportStatus> statuses) {
+        this.root = root;
+        this.statuses = statuses;
+    }
+
+    /** The tree as it was built, with nothing curated and its statuses rolled up in one walk. */
+    static CuratedReport of(ReportNode root) {
+        return ReportCuration.apply(root, PublishSelection.EMPTY, SpecMetadata.EMPTY);
+    }
+
+    ReportNode root() {
+        return root;
+    }
+
+    /** The page's aggregate status, rolled up afresh only for a page outside this tree. */
+    ReportStatus status(ReportNode node) {
+        ReportStatus status = statuses.get(node);
+        return status != null ? status : StatusRollup.of(node);
+    }
+}
@@ -34,8 +34,8 @@ public final class FormatLister {
      * Lists all available output formats.
      *
      * <p>Returns a sorted list of format names, one per line.
-     * Includes built-in formats (asciidoc, markdown) and custom formats
-     * if a template directory is provided.
+     * Includes built-in formats (asciidoc, markdown), formats a {@link ReportRenderer}
+     * on the class path writes, and custom formats if a template directory is provided.
      *
      * @param templateDirectory optional template directory for discovering custom formats (may be null)
      * @return sorted list of format names, one per line
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.nio.file.Path;
+
+/**
+ * A further format a report is rendered in, and the directory its pages go to. The pages are
+ * rendered from the same loaded and curated tree as the report's own format.
+ *
+ * @param format the format to render
+ * @param outputDirectory the directory to write the format's pages to
+ */
+public record FormatOutput(Format format, Path outputDirectory) {}
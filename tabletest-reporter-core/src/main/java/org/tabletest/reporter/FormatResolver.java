@@ -15,6 +15,8 @@
  */
 package org.tabletest.reporter;
 
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.nio.file.Path;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -23,23 +25,28 @@ import java.util.stream.Stream;
 /**
  * Resolves format names to Format instances.
  *
- * <p>This class handles both built-in formats (asciidoc, markdown) and
- * custom formats discovered from template directories.
+ * <p>This class handles built-in formats (asciidoc, markdown), formats a
+ * {@link ReportRenderer} on the class path writes, and custom formats
+ * discovered from template directories.
  */
 public final class FormatResolver {
 
+    private static final Logger LOGGER = System.getLogger(FormatResolver.class.getName());
+
     private FormatResolver() {}
 
     /**
      * Resolves a format name to a Format instance.
      *
      * <p>First checks for built-in format aliases (adoc, asciidoc, md, markdown).
-     * If not found, checks for custom formats in the template directory.
+     * If not found, checks for a renderer writing the format, and then for
+     * custom formats in the template directory.
      *
      * @param formatName the format name to resolve
      * @param templateDirectory the template directory to search for custom formats (may be null)
      * @return the resolved Format
-     * @throws IllegalArgumentException if the format is not found
+     * @throws IllegalArgumentException if the format is not found, or it is not built in and the
+     *     renderers on the class path cannot be loaded
      */
     public static Format resolve(String formatName, Path templateDirectory) {
         if (formatName == null || formatName.isBlank()) {
@@ -49,18 +56,19 @@ public final class FormatResolver {
         String normalizedName = formatName.trim().toLowerCase();
 
         // Check built-in formats first
-        Format builtInFormat =
-                switch (normalizedName) {
-                    case "adoc", "asciidoc", "asciidoctor" -> BuiltInFormat.ASCIIDOC;
-                    case "md", "markdown" -> BuiltInFormat.MARKDOWN;
-                    case "html" -> BuiltInFormat.HTML;
-                    default -> null;
-                };
+        Format builtInFormat = builtIn(normalizedName);
 
         if (builtInFormat != null) {
             return builtInFormat;
         }
 
+        // A renderer on the class path takes precedence over templates of the same name
+        Format rendererFormat = ReportRenderers.installed().find(normalizedName);
+
+        if (rendererFormat != null) {
+            return rendererFormat;
+        }
+
         // Get all available formats (built-in + custom) and check if requested format exists
         Set<String> availableFormats = getAvailableFormats(templateDirectory);
 
@@ -74,22 +82,43 @@ public final class FormatResolver {
         throw new IllegalArgumentException("Unknown format: " + formatName + ". Available formats: " + formatsStr);
     }
 
+    /** The built-in format a normalized name or alias stands for, or null when it names none. */
+    static BuiltInFormat builtIn(String normalizedName) {
+        return switch (normalizedName) {
+            case "adoc", "asciidoc", "asciidoctor" -> BuiltInFormat.ASCIIDOC;
+            case "md", "markdown" -> BuiltInFormat.MARKDOWN;
+            case "html" -> BuiltInFormat.HTML;
+            default -> null;
+        };
+    }
+
+    /** The formats the renderers on the class path write; none, with a warning, when they cannot be loaded. */
+    private static Stream<String> rendererFormatNames() {
+        try {
+            return ReportRenderers.installed().formatNames().stream();
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, e.getMessage());
+            return Stream.empty();
+        }
+    }
+
     /**
-     * Returns all available formats (built-in and custom).
+     * Returns all available formats (built-in, renderer and custom).
      *
      * @param templateDirectory the template directory to search for custom formats (may be null)
      * @return set of available format names
      */
     public static Set<String> getAvailableFormats(Path templateDirectory) {
-        Set<String> builtInFormats =
-                Stream.of(BuiltInFormat.values()).map(Format::formatName).collect(Collectors.toSet());
+        Set<String> installedFormats = Stream.concat(
+                        Stream.of(BuiltInFormat.values()).map(Format::formatName), rendererFormatNames())
+                .collect(Collectors.toSet());
 
         if (templateDirectory != null) {
             Set<String> customFormats = FormatDiscovery.discoverFormats(templateDirectory);
-            return Stream.concat(builtInFormats.stream(), customFormats.stream())
+            return Stream.concat(installedFormats.stream(), customFormats.stream())
                     .collect(Collectors.toSet());
         }
 
-        return builtInFormats;
+        return installedFormats;
     }
 }
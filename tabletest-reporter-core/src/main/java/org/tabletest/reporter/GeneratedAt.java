@@ -18,6 +18,7 @@ package org.tabletest.reporter;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
 import java.util.Map;
@@ -26,6 +27,9 @@ import java.util.Map;
  * The moment a report run produced the documentation, in the two forms the footer needs: the
  * machine-readable value of a {@code <time datetime>} attribute and the label a reader sees.
  * Timestamps are stated in UTC so a report generated in CI reads the same everywhere.
+ * <p>
+ * A run can be given a fixed moment instead of its own. Every page states the timestamp, so only
+ * a fixed one lets unchanged input produce byte-identical output for build caches to reuse.
  */
 record GeneratedAt(Instant instant) {
 
@@ -36,6 +40,31 @@ record GeneratedAt(Instant instant) {
         return new GeneratedAt(Instant.now());
     }
 
+    /** The given fixed moment, or the moment of the run when there is none. */
+    static GeneratedAt fixedOrNow(Instant fixed) {
+        return fixed != null ? new GeneratedAt(fixed) : now();
+    }
+
+    /**
+     * Reads a configured generation time, written either as an ISO-8601 instant or as whole
+     * seconds since the epoch (the form {@code SOURCE_DATE_EPOCH} takes).
+     *
+     * @param value the configured text
+     * @param source the name the value was configured under, for the error message
+     * @throws IllegalArgumentException if the value is neither form
+     */
+    static Instant parse(String value, String source) {
+        String text = value.trim();
+        try {
+            return text.chars().allMatch(Character::isDigit)
+                    ? Instant.ofEpochSecond(Long.parseLong(text))
+                    : Instant.parse(text);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + source + " '" + value
+                    + "': expected an ISO-8601 instant or seconds since the epoch");
+        }
+    }
+
     Map<String, Object> toMap() {
         return Map.of("datetime", datetime(), "label", label());
     }
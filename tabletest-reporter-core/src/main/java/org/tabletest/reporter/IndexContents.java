@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@code contents} listing of every index page, worked out once per report. Each index's
+ * entries are built once, with each link relative to the index itself, and an ancestor lists a
+ * descendant's entries by prefixing their links with the way down to it rather than building them
+ * again, so the model behind all index pages together is linear in the size of the tree however
+ * deep the listings go.
+ * <p>
+ * A listing is a read-only view its template walks: each entry is an immutable map of the
+ * {@code name}, {@code path}, {@code type}, {@code status} and, where there are any, the
+ * {@code title} and nested {@code contents} of one page, down to the configured
+ * {@link IndexDepth}. Built before rendering and never changed after, so outputs rendering
+ * concurrently can share it.
+ */
+final class IndexContents {
+
+    private final Map<IndexNode, List<Item>> items = new IdentityHashMap<>();
+    private final int depth;
+
+    private IndexContents(int depth) {
+        this.depth = depth;
+    }
+
+    /** Builds the items of every index in the tree in one walk, children before their parents. */
+    static IndexContents of(CuratedReport tree, IndexDepth depth) {
+        IndexContents contents = new IndexContents(depth.value());
+        if (tree.root() instanceof IndexNode root) {
+            contents.itemsOf(root, tree);
+        }
+        return contents;
+    }
+
+    /** The listing an index page shows, with each link relative to the index's own directory. */
+    List<Map<String, Object>> of(IndexNode index) {
+        return new Listing(items.getOrDefault(index, List.of()), "", 1);
+    }
+
+    private List<Item> itemsOf(IndexNode index, CuratedReport tree) {
+        Path directory = Path.of("./" + index.outPath());
+        List<Item> listed = index.contents().stream()
+                .map(child -> new Item(
+                        child.name(),
+                        href(directory, child),
+                        child.type(),
+                        tree.status(child).state(),
+                        child.resource() != null ? child.resource().get("title") : null,
+                        child instanceof IndexNode childIndex ? itemsOf(childIndex, tree) : List.of()))
+                .toList();
+        items.put(index, listed);
+        return listed;
+    }
+
+    /** Relative link target from an index page to a child entry, with '/' separators on every platform. */
+    private static String href(Path fromDirectory, ReportNode child) {
+        return fromDirectory
+                .relativize(Path.of("./" + child.outPath()))
+                .toString()
+                .replace('\\', '/');
+    }
+
+    /** One page as its parent index lists it; {@code path} is relative to that parent. */
+    private record Item(String name, String path, String type, String status, Object title, List<Item> contents) {}
+
+    /** Entries as an index a number of levels above them lists them, their paths prefixed with the way down. */
+    private final class Listing extends AbstractList<Map<String, Object>> {
+
+        private final List<Item> listed;
+        private final String prefix;
+        private final int level;
+
+        Listing(List<Item> listed, String prefix, int level) {
+            this.listed = listed;
+            this.prefix = prefix;
+            this.level = level;
+        }
+
+        @Override
+        public Map<String, Object> get(int index) {
+            return new ItemView(listed.get(index), prefix, level);
+        }
+
+        @Override
+        public int size() {
+            return listed.size();
+        }
+    }
+
+    private final class ItemView extends AbstractMap<String, Object> {
+
+        private final Item item;
+        private final String prefix;
+        private final int level;
+
+        ItemView(Item item, String prefix, int level) {
+            this.item = item;
+            this.prefix = prefix;
+            this.level = level;
+        }
+
+        @Override
+        public Object get(Object key) {
+            if (!(key instanceof String name)) {
+                return null;
+            }
+            return switch (name) {
+                case "name" -> item.name();
+                case "path" -> prefix + item.path();
+                case "type" -> item.type();
+                case "status" -> item.status();
+                case "title" -> item.title();
+                case "contents" -> nested();
+                default -> null;
+            };
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return "name".equals(key) || get(key) != null;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        /** The item as a plain map, keyed the way the listing always was, for the page digest to read. */
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("name", item.name());
+            map.put("path", get("path"));
+            map.put("type", item.type());
+            map.put("status", item.status());
+            if (item.title() != null) {
+                map.put("title", item.title());
+            }
+            List<Map<String, Object>> nested = nested();
+            if (nested != null) {
+                map.put("contents", nested);
+            }
+            return map.entrySet();
+        }
+
+        private List<Map<String, Object>> nested() {
+            if (level >= depth || item.contents().isEmpty()) {
+                return null;
+            }
+            return new Listing(item.contents(), prefix + item.path() + "/", level + 1);
+        }
+    }
+}
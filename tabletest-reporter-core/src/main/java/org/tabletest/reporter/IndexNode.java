@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index node representing a package or test class directory.
+ * Contains links to child nodes (other indexes or tables).
+ */
+public record IndexNode(String name, String outPath, Map<String, Object> resource, List<ReportNode> contents)
+        implements ReportNode {
+
+    public IndexNode {
+        contents = List.copyOf(contents);
+    }
+
+    /**
+     * Template compatibility: Pebble templates check node type.
+     */
+    public String type() {
+        return "index";
+    }
+}
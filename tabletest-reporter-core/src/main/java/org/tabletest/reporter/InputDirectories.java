@@ -19,6 +19,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.joining;
 
@@ -35,6 +36,9 @@ import static java.util.stream.Collectors.joining;
  */
 public record InputDirectories(List<Path> present, List<Path> missing) {
 
+    /** From this many directories on, they are probed concurrently: a reactor lists hundreds. */
+    private static final int PARALLEL_PROBE_THRESHOLD = 16;
+
     public InputDirectories {
         present = List.copyOf(present);
         missing = List.copyOf(missing);
@@ -42,7 +46,7 @@ public record InputDirectories(List<Path> present, List<Path> missing) {
 
     /**
      * Resolves configured directories against a project directory, sorting them into present and
-     * missing.
+     * missing. Each directory is probed once, and a long list is probed concurrently.
      *
      * @param configured the directories as configured, absolute or relative to {@code baseDir}
      * @param baseDir the project directory relative paths resolve against, or null for the working
@@ -58,9 +62,19 @@ public record InputDirectories(List<Path> present, List<Path> missing) {
                                 : base.resolve(dir).normalize())
                         .distinct()
                         .toList();
+        IntStream indices = IntStream.range(0, normalized.size());
+        boolean[] exists = new boolean[normalized.size()];
+        (normalized.size() >= PARALLEL_PROBE_THRESHOLD ? indices.parallel() : indices)
+                .forEach(i -> exists[i] = Files.isDirectory(normalized.get(i)));
         return new InputDirectories(
-                normalized.stream().filter(Files::isDirectory).toList(),
-                normalized.stream().filter(dir -> !Files.isDirectory(dir)).toList());
+                IntStream.range(0, exists.length)
+                        .filter(i -> exists[i])
+                        .mapToObj(normalized::get)
+                        .toList(),
+                IntStream.range(0, exists.length)
+                        .filter(i -> !exists[i])
+                        .mapToObj(normalized::get)
+                        .toList());
     }
 
     /** True when none of the configured directories exists, so there is nothing to report from. */
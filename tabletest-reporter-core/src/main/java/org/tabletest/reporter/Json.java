@@ -15,6 +15,11 @@
  */
 package org.tabletest.reporter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -23,48 +28,94 @@ import java.util.Map;
  * verbatim in a generated {@code .js} asset, so string escaping additionally neutralises the
  * two Unicode line separators (U+2028/U+2029) that are valid in JSON but terminate a
  * JavaScript string literal.
+ * <p>
+ * The encoder writes to any {@link Appendable}, so a large document can stream straight to a
+ * file instead of being assembled in memory first. Escapes come from a table built once, and
+ * the characters between two escapes are copied as one run. The class is public for
+ * {@link #escapeOf(char)} alone, which the {@code jsonString} template filter writes strings with.
  */
-final class Json {
+public final class Json {
 
-    private static final int LINE_SEPARATOR = 0x2028;
-    private static final int PARAGRAPH_SEPARATOR = 0x2029;
+    private static final char LINE_SEPARATOR = 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = 0x2029;
+    private static final String LINE_SEPARATOR_ESCAPE = unicodeEscape(LINE_SEPARATOR);
+    private static final String PARAGRAPH_SEPARATOR_ESCAPE = unicodeEscape(PARAGRAPH_SEPARATOR);
+
+    /** The escape for each ASCII character that needs one, null for those written as they are. */
+    private static final String[] ESCAPES = new String[0x80];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = unicodeEscape((char) c);
+        }
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
 
     private Json() {}
 
     static String encode(Object value) {
         StringBuilder out = new StringBuilder();
-        write(out, value);
+        try {
+            write(out, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unexpected failure appending to a StringBuilder", e);
+        }
         return out.toString();
     }
 
-    private static void write(StringBuilder out, Object value) {
+    /** Writes the value as JSON to the given output as it goes, without holding the document. */
+    static void write(Appendable out, Object value) throws IOException {
+        write(out, value, false);
+    }
+
+    /**
+     * Writes the value as JSON with the members of every object in key order, so maps holding the
+     * same entries write the same text whatever order they iterate in.
+     */
+    static void writeCanonical(Appendable out, Object value) throws IOException {
+        write(out, value, true);
+    }
+
+    private static void write(Appendable out, Object value, boolean sorted) throws IOException {
         switch (value) {
             case null -> out.append("null");
             case String string -> writeString(out, string);
             case Boolean bool -> out.append(bool.toString());
             case Number number -> out.append(number.toString());
-            case Map<?, ?> map -> writeObject(out, map);
-            case Iterable<?> iterable -> writeArray(out, iterable);
+            case Map<?, ?> map -> writeObject(out, map, sorted);
+            case Iterable<?> iterable -> writeArray(out, iterable, sorted);
             default -> writeString(out, value.toString());
         }
     }
 
-    private static void writeObject(StringBuilder out, Map<?, ?> map) {
+    private static void writeObject(Appendable out, Map<?, ?> map, boolean sorted) throws IOException {
+        Iterable<? extends Map.Entry<?, ?>> entries = map.entrySet();
+        if (sorted) {
+            List<Map.Entry<?, ?>> inOrder = new ArrayList<>(map.entrySet());
+            inOrder.sort(Comparator.comparing(entry -> String.valueOf(entry.getKey())));
+            entries = inOrder;
+        }
         out.append('{');
         boolean first = true;
-        for (Map.Entry<?, ?> entry : map.entrySet()) {
+        for (Map.Entry<?, ?> entry : entries) {
             if (!first) {
                 out.append(',');
             }
             first = false;
             writeString(out, String.valueOf(entry.getKey()));
             out.append(':');
-            write(out, entry.getValue());
+            write(out, entry.getValue(), sorted);
         }
         out.append('}');
     }
 
-    private static void writeArray(StringBuilder out, Iterable<?> iterable) {
+    private static void writeArray(Appendable out, Iterable<?> iterable, boolean sorted) throws IOException {
         out.append('[');
         boolean first = true;
         for (Object element : iterable) {
@@ -72,35 +123,40 @@ final class Json {
                 out.append(',');
             }
             first = false;
-            write(out, element);
+            write(out, element, sorted);
         }
         out.append(']');
     }
 
-    private static void writeString(StringBuilder out, String string) {
+    private static void writeString(Appendable out, String string) throws IOException {
         out.append('"');
+        int copied = 0;
         for (int i = 0; i < string.length(); i++) {
-            appendEscaped(out, string.charAt(i));
+            String escape = escapeOf(string.charAt(i));
+            if (escape != null) {
+                out.append(string, copied, i).append(escape);
+                copied = i + 1;
+            }
         }
-        out.append('"');
+        out.append(string, copied, string.length()).append('"');
     }
 
-    private static void appendEscaped(StringBuilder out, char c) {
-        switch (c) {
-            case '"' -> out.append("\\\"");
-            case '\\' -> out.append("\\\\");
-            case '\b' -> out.append("\\b");
-            case '\f' -> out.append("\\f");
-            case '\n' -> out.append("\\n");
-            case '\r' -> out.append("\\r");
-            case '\t' -> out.append("\\t");
-            default -> {
-                if (c < 0x20 || c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR) {
-                    out.append(String.format("\\u%04x", (int) c));
-                } else {
-                    out.append(c);
-                }
-            }
+    /**
+     * The escape JSON output writes a character with, or null for a character written as it is.
+     * Besides what JSON requires, the two Unicode line separators are escaped.
+     */
+    public static String escapeOf(char c) {
+        if (c < ESCAPES.length) {
+            return ESCAPES[c];
         }
+        return switch (c) {
+            case LINE_SEPARATOR -> LINE_SEPARATOR_ESCAPE;
+            case PARAGRAPH_SEPARATOR -> PARAGRAPH_SEPARATOR_ESCAPE;
+            default -> null;
+        };
+    }
+
+    private static String unicodeEscape(char c) {
+        return String.format("\\u%04x", (int) c);
     }
 }
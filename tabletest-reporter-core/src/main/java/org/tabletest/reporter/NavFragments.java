@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The sidebar navigation of one multi-file render, built once per output directory. Every page in
+ * a directory links to every other page by the same relative hrefs, so the tree model and, for
+ * HTML, its rendered markup are built for the first page of a directory and reused by the rest,
+ * which only mark their own entry: the model by copying the entries on the way down to it, the
+ * markup by splicing the current-page marker into the rendered fragment. The sidebar so stays
+ * rendered on the server, readable with JavaScript disabled, without each page rendering the whole
+ * tree again.
+ * <p>
+ * The first splice of an index entry and the first of a table entry are each checked against a full
+ * render of the marked tree, and a splice only marks an entry whose link directly follows the
+ * element carrying its class; should templates of one's own render an entry differently, the page
+ * template renders the tree from the model as before.
+ * Pages render depth first, so only the directories on the way down to the current one are kept.
+ * Meant for one render at a time.
+ */
+final class NavFragments {
+
+    private static final Logger LOGGER = System.getLogger(NavFragments.class.getName());
+
+    private final CuratedReport report;
+    private final Function<List<Map<String, Object>>, String> renderer;
+    private final Map<Path, Directory> directories = new HashMap<>();
+    private final Set<Class<? extends ReportNode>> checked = new HashSet<>();
+    private boolean splicing;
+
+    /**
+     * @param renderer renders the markup of a tree for the page template to embed, or null when the
+     *     format embeds none
+     */
+    NavFragments(CuratedReport report, Function<List<Map<String, Object>>, String> renderer) {
+        this.report = report;
+        this.renderer = renderer;
+        this.splicing = renderer != null;
+    }
+
+    /** The navigation model of a page, holding its spliced markup as {@code treeHtml} where there is one. */
+    Map<String, Object> of(ReportNode current, List<ReportNode> ancestors) {
+        Path directory = NavLinks.pageDirectory(current);
+        directories.keySet().removeIf(kept -> !directory.startsWith(kept));
+        Directory shared = directories.computeIfAbsent(directory, this::directory);
+        List<Integer> path = pathTo(current, ancestors);
+        Map<String, Object> nav = NavModel.build(report.root(), current, shared.tree(), path, shared.hrefOf());
+        String markup = markup(shared, current, path, nav);
+        if (markup != null) {
+            nav.put("treeHtml", markup);
+        }
+        return nav;
+    }
+
+    private Directory directory(Path directory) {
+        Function<ReportNode, String> hrefOf = target -> NavLinks.href(directory, target);
+        List<Map<String, Object>> tree = NavModel.tree(report, hrefOf);
+        return new Directory(hrefOf, tree, splicing ? rendered(tree) : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private String markup(Directory shared, ReportNode current, List<Integer> path, Map<String, Object> nav) {
+        if (!splicing || shared.markup() == null) {
+            return null;
+        }
+        if (path.isEmpty()) {
+            return shared.markup();
+        }
+        String spliced = spliced(shared.markup(), shared.hrefOf().apply(current));
+        if (checked.add(current.getClass())) {
+            String expected = rendered((List<Map<String, Object>>) nav.get("tree"));
+            if (spliced == null || !spliced.equals(expected)) {
+                LOGGER.log(Level.DEBUG, "Sidebar entries render differently; rendering the sidebar on every page");
+                splicing = false;
+                return null;
+            }
+        }
+        return spliced;
+    }
+
+    /**
+     * The fragment with the entry linking to {@code href} marked as the current page, or null when
+     * there is none or its link does not directly follow an element whose last attribute is its class.
+     */
+    private static String spliced(String markup, String href) {
+        String link = "<a href=\"" + href + "\"";
+        int at = markup.indexOf(link + ">");
+        int classEnd = at < 0 ? -1 : markup.lastIndexOf("\">", at);
+        if (classEnd < 0 || !opensEntry(markup, classEnd, at)) {
+            return null;
+        }
+        int linkEnd = at + link.length();
+        return markup.substring(0, classEnd)
+                + " current"
+                + markup.substring(classEnd, linkEnd)
+                + " aria-current=\"page\""
+                + markup.substring(linkEnd);
+    }
+
+    /**
+     * Whether the {@code ">} at {@code classEnd} closes the opening tag of the element holding the
+     * link at {@code linkStart}: it ends that tag's class attribute, and only white space lies
+     * between the tag and the link.
+     */
+    private static boolean opensEntry(String markup, int classEnd, int linkStart) {
+        int tagStart = markup.lastIndexOf('<', classEnd);
+        int classStart = markup.lastIndexOf(" class=\"", classEnd);
+        return tagStart >= 0
+                && classStart > tagStart
+                && markup.indexOf('>', tagStart) == classEnd + 1
+                && markup.indexOf('"', classStart + " class=\"".length()) == classEnd
+                && markup.substring(classEnd + 2, linkStart).isBlank();
+    }
+
+    private String rendered(List<Map<String, Object>> tree) {
+        try {
+            return renderer.apply(tree);
+        } catch (RuntimeException e) {
+            // A template directory of one's own may leave out the entry macro the fragment renders with
+            LOGGER.log(Level.DEBUG, "Sidebar fragment does not render; rendering the sidebar on every page", e);
+            splicing = false;
+            return null;
+        }
+    }
+
+    /** The positions, among their siblings, of the pages on the way down from the root to {@code current}. */
+    private static List<Integer> pathTo(ReportNode current, List<ReportNode> ancestors) {
+        List<Integer> path = new ArrayList<>();
+        for (int i = 1; i <= ancestors.size(); i++) {
+            ReportNode child = i < ancestors.size() ? ancestors.get(i) : current;
+            List<ReportNode> siblings = ((IndexNode) ancestors.get(i - 1)).contents();
+            int position = 0;
+            while (siblings.get(position) != child) {
+                position++;
+            }
+            path.add(position);
+        }
+        return path;
+    }
+
+    private record Directory(
+            Function<ReportNode, String> hrefOf, List<Map<String, Object>> tree, String markup) {}
+}
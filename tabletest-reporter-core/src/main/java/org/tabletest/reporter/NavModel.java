@@ -15,6 +15,7 @@
  */
 package org.tabletest.reporter;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,13 +25,40 @@ import java.util.function.Function;
  * Builds the sidebar navigation model (home link + recursive tree with status dots) that the
  * {@code renderSidebar} macro consumes. The link target is supplied as a resolver so the same
  * model serves both output modes: multi-file mode resolves each node to its page-relative file,
- * single-file mode to an in-page {@code #anchor}.
+ * single-file mode to an in-page {@code #anchor}. Pages sharing a directory link to every page
+ * alike, so a tree built once for the directory can be shared by them, each marking its own entry.
  */
 final class NavModel {
 
     private NavModel() {}
 
-    static Map<String, Object> build(ReportNode root, ReportNode current, Function<ReportNode, String> hrefOf) {
+    static Map<String, Object> build(
+            CuratedReport report, ReportNode current, Function<ReportNode, String> hrefOf) {
+        ReportNode root = report.root();
+        return nav(root, current, tree(report, root, current, hrefOf), hrefOf);
+    }
+
+    /**
+     * The model of a page whose directory's {@link #tree(CuratedReport, Function) tree} is already
+     * built: the tree is shared, and only the entries on the way down to {@code current}, given as
+     * their positions among their siblings, are copied so that its own entry alone is marked.
+     */
+    static Map<String, Object> build(
+            ReportNode root,
+            ReportNode current,
+            List<Map<String, Object>> tree,
+            List<Integer> path,
+            Function<ReportNode, String> hrefOf) {
+        return nav(root, current, marked(tree, path), hrefOf);
+    }
+
+    /** The tree of the whole report with no entry marked, as every page in one directory links to it. */
+    static List<Map<String, Object>> tree(CuratedReport report, Function<ReportNode, String> hrefOf) {
+        return tree(report, report.root(), null, hrefOf);
+    }
+
+    private static Map<String, Object> nav(
+            ReportNode root, ReportNode current, List<Map<String, Object>> tree, Function<ReportNode, String> hrefOf) {
         Map<String, Object> home = new HashMap<>();
         home.put("label", label(root));
         home.put("href", hrefOf.apply(root));
@@ -38,10 +66,28 @@ final class NavModel {
 
         Map<String, Object> nav = new HashMap<>();
         nav.put("home", home);
-        nav.put("tree", tree(root, current, hrefOf));
+        nav.put("tree", tree);
         return nav;
     }
 
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> marked(List<Map<String, Object>> tree, List<Integer> path) {
+        if (path.isEmpty()) {
+            return tree;
+        }
+        int position = path.get(0);
+        Map<String, Object> item = new HashMap<>(tree.get(position));
+        if (path.size() == 1) {
+            item.put("current", true);
+        } else {
+            List<Map<String, Object>> children = (List<Map<String, Object>>) item.get("contents");
+            item.put("contents", marked(children, path.subList(1, path.size())));
+        }
+        List<Map<String, Object>> copy = new ArrayList<>(tree);
+        copy.set(position, item);
+        return List.copyOf(copy);
+    }
+
     static String label(ReportNode node) {
         Object title = node.resource() != null ? node.resource().get("title") : null;
         if (title != null) {
@@ -51,7 +97,7 @@ final class NavModel {
     }
 
     private static List<Map<String, Object>> tree(
-            ReportNode node, ReportNode current, Function<ReportNode, String> hrefOf) {
+            CuratedReport report, ReportNode node, ReportNode current, Function<ReportNode, String> hrefOf) {
         if (!(node instanceof IndexNode index)) {
             return List.of();
         }
@@ -61,9 +107,9 @@ final class NavModel {
                     item.put("label", label(child));
                     item.put("href", hrefOf.apply(child));
                     item.put("type", child.type());
-                    item.put("status", StatusRollup.of(child).state());
+                    item.put("status", report.status(child).state());
                     item.put("current", child == current);
-                    List<Map<String, Object>> children = tree(child, current, hrefOf);
+                    List<Map<String, Object>> children = tree(report, child, current, hrefOf);
                     if (!children.isEmpty()) {
                         item.put("contents", children);
                     }
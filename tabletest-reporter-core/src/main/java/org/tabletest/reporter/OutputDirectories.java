@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The directories a report has made sure exist, so writing its pages costs one file system call
+ * per directory rather than one chain of them per page. {@link Files#createDirectories} checks
+ * every page's directory and, for a new one, each parent up to one that exists; a report of tens
+ * of thousands of pages in a few thousand directories spent much of its writing time there. Here a
+ * known directory costs nothing, and a new one is created from its nearest known parent down.
+ * <p>
+ * A report keeps one for the whole run, and several threads may use it at once. It assumes
+ * nothing else deletes directories while the report is written.
+ */
+final class OutputDirectories {
+
+    private final Set<Path> existing = ConcurrentHashMap.newKeySet();
+
+    /** Makes sure a directory exists, creating it and any missing parents. */
+    void create(Path directory) throws IOException {
+        Path target = directory.toAbsolutePath().normalize();
+        Deque<Path> missing = new ArrayDeque<>();
+        Path current = target;
+        while (current != null && !existing.contains(current)) {
+            missing.push(current);
+            current = current.getParent();
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        if (current == null) {
+            // Nothing known yet: let the file system find which parents exist, once
+            Files.createDirectories(target);
+            existing.addAll(missing);
+            return;
+        }
+        for (Path child : missing) {
+            try {
+                Files.createDirectory(child);
+            } catch (FileAlreadyExistsException e) {
+                if (!Files.isDirectory(child)) {
+                    throw e;
+                }
+            }
+            existing.add(child);
+        }
+    }
+}
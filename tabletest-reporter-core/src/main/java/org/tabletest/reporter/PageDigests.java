@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What each page of a report was rendered from, kept between runs so a later run renders only the
+ * pages whose model changed. A page's digest covers the whole context its template receives —
+ * its own rows, the contents and breadcrumbs of the pages around it and the navigation — so a
+ * change that shows on a page through a parent's status or a sibling's title marks that page too.
+ * The generation time is left out: a page that is not rendered again keeps stating when it was.
+ * <p>
+ * The record is one line per page, the digest and then the page's path relative to the output
+ * directory. A missing or unreadable record means every page renders.
+ */
+final class PageDigests {
+
+    private static final String GENERATED_AT = "generatedAt";
+    /** Stands for the digest of a page recorded without its model. */
+    private static final String RENDERED = "-";
+
+    private final Map<String, String> previous;
+    private final Map<String, String> current = new TreeMap<>();
+    private final String format;
+
+    private PageDigests(Map<String, String> previous, String format) {
+        this.previous = previous;
+        this.format = format;
+    }
+
+    /**
+     * Reads the record a previous run left.
+     *
+     * @param recordFile the file the record is kept in, which need not exist
+     * @param format the format about to be rendered; a record of another format matches no page
+     */
+    static PageDigests load(Path recordFile, Format format) {
+        return new PageDigests(read(recordFile), format.formatName());
+    }
+
+    /**
+     * Whether a record is there and every page it holds is still in the output directory, so a
+     * run left nothing to render would leave the report whole.
+     *
+     * @param recordFile the file the record is kept in
+     * @param outDir the directory the recorded pages were written to
+     */
+    static boolean pagesExist(Path recordFile, Path outDir) {
+        return Files.isRegularFile(recordFile)
+                && read(recordFile).keySet().stream().allMatch(page -> Files.exists(outDir.resolve(page)));
+    }
+
+    private static Map<String, String> read(Path recordFile) {
+        Map<String, String> pages = new HashMap<>();
+        if (Files.isRegularFile(recordFile)) {
+            try {
+                for (String line : Files.readAllLines(recordFile, StandardCharsets.UTF_8)) {
+                    int separator = line.indexOf(' ');
+                    if (separator > 0) {
+                        pages.put(line.substring(separator + 1), line.substring(0, separator));
+                    }
+                }
+            } catch (IOException e) {
+                pages.clear();
+            }
+        }
+        return pages;
+    }
+
+    /**
+     * Records the model of a page and tells whether it differs from the one the previous run
+     * rendered the page from.
+     *
+     * @param page the page's path relative to the output directory
+     * @param context the context the page's template receives
+     */
+    boolean changed(Path page, Map<String, Object> context) {
+        String key = key(page);
+        String digest = digest(context);
+        current.put(key, digest);
+        return !digest.equals(previous.get(key));
+    }
+
+    /**
+     * Records a page rendered whatever its model, such as one a {@link ReportRenderer} writes, so
+     * it is deleted once a later run no longer holds it.
+     *
+     * @param page the page's path relative to the output directory
+     */
+    void rendered(Path page) {
+        current.put(key(page), RENDERED);
+    }
+
+    private static String key(Path page) {
+        return page.normalize().toString().replace('\\', '/');
+    }
+
+    /** The pages the previous run wrote that this run does not hold, relative to the output directory. */
+    List<String> removedPages() {
+        return previous.keySet().stream()
+                .filter(page -> !current.containsKey(page))
+                .sorted()
+                .toList();
+    }
+
+    /** Whether any page was added, changed or removed since the previous run. */
+    boolean anyChanged() {
+        return !current.equals(previous);
+    }
+
+    /** Replaces the record with the pages of this run. */
+    void save(Path recordFile) {
+        StringBuilder record = new StringBuilder();
+        current.forEach(
+                (page, digest) -> record.append(digest).append(' ').append(page).append('\n'));
+        try {
+            Files.createDirectories(recordFile.toAbsolutePath().getParent());
+            Files.writeString(recordFile, record, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write page record " + recordFile, e);
+        }
+    }
+
+    /**
+     * Digests the context as canonical JSON streamed into the digest, its keys in order at every
+     * level, so the digest depends only on what the page shows and not on how its maps were built.
+     */
+    private String digest(Map<String, Object> context) {
+        MessageDigest sha = sha256();
+        sha.update(format.getBytes(StandardCharsets.UTF_8));
+        try (Writer model = new OutputStreamWriter(
+                new DigestOutputStream(OutputStream.nullOutputStream(), sha), StandardCharsets.UTF_8)) {
+            Json.writeCanonical(model, withoutGenerationTime(context));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unexpected failure writing to a digest", e);
+        }
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    private static Map<String, Object> withoutGenerationTime(Map<String, Object> context) {
+        if (!context.containsKey(GENERATED_AT)) {
+            return context;
+        }
+        Map<String, Object> model = new HashMap<>(context);
+        model.remove(GENERATED_AT);
+        return model;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes the pages of a report off the thread rendering them. Rendering hands each page over and
+ * goes on with the next; virtual threads create the page's directory and write it. On a network
+ * file system, where a write can take longer than rendering the page, rendering no longer waits
+ * for the disk.
+ * <p>
+ * At most {@link #QUEUE_CAPACITY} pages wait to be written, so rendering a large report ahead of
+ * a slow disk never holds the whole report in memory: handing over a page waits once the queue is
+ * full. Directories are created through the report's {@link OutputDirectories}.
+ * The first failed write fails the next page handed over, or else {@link #close()}.
+ */
+final class PageWriter implements AutoCloseable {
+
+    /** How many rendered pages may wait to be written. */
+    static final int QUEUE_CAPACITY = 64;
+
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore queue = new Semaphore(QUEUE_CAPACITY);
+    private final OutputDirectories directories;
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final AtomicInteger peakDepth = new AtomicInteger();
+    private final AtomicInteger pages = new AtomicInteger();
+    private final LongAdder characters = new LongAdder();
+    private final long started = System.nanoTime();
+    private boolean failureThrown; // only ever read and set by the thread handing pages over
+
+    /** @param directories the directories of the report known to exist, shared with its other writes */
+    PageWriter(OutputDirectories directories) {
+        this.directories = directories;
+    }
+
+    /**
+     * What writing a report took.
+     *
+     * @param pages the number of pages written
+     * @param characters the number of characters written across those pages, streamed pages aside
+     * @param peakQueueDepth the most pages that waited to be written at one time
+     * @param millis the time from the first page handed over to the last one written
+     */
+    record Metrics(int pages, long characters, int peakQueueDepth, long millis) {
+
+        /** Pages written per second, or 0 for a report written in under a millisecond. */
+        long pagesPerSecond() {
+            return millis == 0 ? 0 : pages * 1000L / millis;
+        }
+    }
+
+    /** Hands a page over to be written, waiting while the queue is full. */
+    void write(Path outPath, String content) {
+        submit(outPath, () -> {
+            Files.writeString(outPath, content);
+            characters.add(content.length());
+        });
+    }
+
+    /**
+     * Hands a page over to be streamed to its file, waiting while the queue is full. The page is
+     * produced on the writing thread, straight into a buffered stream of the file, so it is never
+     * held whole in memory; its characters are not counted.
+     */
+    void stream(Path outPath, Content content) {
+        submit(outPath, () -> {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(outPath))) {
+                content.writeTo(out);
+            }
+        });
+    }
+
+    /** A page produced as it is written. */
+    @FunctionalInterface
+    interface Content {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private void submit(Path outPath, Writing writing) {
+        throwIfFailed();
+        queue.acquireUninterruptibly();
+        peakDepth.accumulateAndGet(QUEUE_CAPACITY - queue.availablePermits(), Math::max);
+        try {
+            writers.execute(() -> {
+                try {
+                    directories.create(outPath.toAbsolutePath().getParent());
+                    writing.run();
+                    pages.incrementAndGet();
+                } catch (IOException | RuntimeException e) {
+                    failure.compareAndSet(null, new RuntimeException("Failed to write output file " + outPath, e));
+                } finally {
+                    queue.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            queue.release();
+            throw e;
+        }
+    }
+
+    private interface Writing {
+        void run() throws IOException;
+    }
+
+    /** Waits for every page handed over to be written, failing if any could not be. */
+    @Override
+    public void close() {
+        writers.close();
+        if (!failureThrown) {
+            throwIfFailed();
+        }
+    }
+
+    /** What writing took so far; after {@link #close()}, what writing the whole report took. */
+    Metrics metrics() {
+        return new Metrics(
+                pages.get(), characters.sum(), peakDepth.get(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void throwIfFailed() {
+        RuntimeException failed = failure.get();
+        if (failed != null) {
+            failureThrown = true;
+            throw failed;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The paths of a {@link PublishSelection} compiled once into a trie of path segments, walked
+ * alongside the report tree. Patterns sharing a prefix share its nodes; a literal segment is found
+ * by lookup rather than by trying every pattern, a partial wildcard is matched by its precompiled
+ * parts, and {@code **} is a node that stays active for any number of further names. The pages a
+ * walk has reached are described by the set of nodes active at them, so deciding whether a page
+ * publishes costs one step from its parent's set, however many patterns are declared and without
+ * backtracking.
+ * <p>
+ * A matcher records which declared paths named a page on the way, so the paths naming none are
+ * known after a single walk. It is meant for one walk at a time.
+ */
+final class PublishMatcher {
+
+    private static final String ANY_DEPTH = "**";
+
+    private final Node root = new Node(false);
+    private final List<String> declared = new ArrayList<>();
+    private final BitSet matched = new BitSet();
+
+    private PublishMatcher() {}
+
+    /** Compiles the exclude and include paths of a selection. */
+    static PublishMatcher compile(PublishSelection selection) {
+        PublishMatcher matcher = new PublishMatcher();
+        selection.exclude().forEach(path -> matcher.add(path, false));
+        selection.include().forEach(path -> matcher.add(path, true));
+        return matcher;
+    }
+
+    /** The state of a walk standing on the root index, which no path names. */
+    State start() {
+        return new State(closure(List.of(root)));
+    }
+
+    /** The declared paths, excludes first, that named no page walked so far, in declared order. */
+    List<String> unmatched() {
+        List<String> unmatched = new ArrayList<>();
+        for (int i = 0; i < declared.size(); i++) {
+            if (!matched.get(i)) {
+                unmatched.add(declared.get(i));
+            }
+        }
+        return unmatched;
+    }
+
+    private void add(String path, boolean include) {
+        int index = declared.size();
+        declared.add(path);
+        Node node = root;
+        for (String segment : PublishPattern.parse(path).segments()) {
+            node = node.child(segment);
+        }
+        (include ? node.includedBy : node.excludedBy).add(index);
+    }
+
+    private static List<Node> closure(List<Node> nodes) {
+        Set<Node> closed = new LinkedHashSet<>();
+        for (Node node : nodes) {
+            Node reached = node;
+            while (reached != null && closed.add(reached)) {
+                reached = reached.anyDepth; // a ** may stand for no level, so what follows it is active too
+            }
+        }
+        return List.copyOf(closed);
+    }
+
+    /** Where a walk stands: the trie nodes the path of page names so far has reached. */
+    final class State {
+
+        private final List<Node> active;
+
+        private State(List<Node> active) {
+            this.active = active;
+        }
+
+        /** The state at the child page of the given name. */
+        State step(String pageName) {
+            if (active.isEmpty()) {
+                return this;
+            }
+            List<Node> next = new ArrayList<>();
+            for (Node node : active) {
+                if (node.repeats) {
+                    next.add(node);
+                }
+                Node literal = node.literals.get(pageName);
+                if (literal != null) {
+                    next.add(literal);
+                }
+                for (Node wildcard : node.wildcards) {
+                    if (wildcard.glob.matches(pageName)) {
+                        next.add(wildcard);
+                    }
+                }
+            }
+            return next.isEmpty() ? new State(List.of()) : new State(closure(next));
+        }
+
+        /**
+         * Whether the page this state stands on publishes. Including a page overrides excluding it;
+         * a page named by neither inherits its parent's fate. Every declared path naming the page is
+         * recorded as matched.
+         */
+        boolean publishes(boolean publishedByDefault) {
+            boolean included = false;
+            boolean excluded = false;
+            for (Node node : active) {
+                if (!node.includedBy.isEmpty()) {
+                    included = true;
+                    node.includedBy.forEach(matched::set);
+                }
+                if (!node.excludedBy.isEmpty()) {
+                    excluded = true;
+                    node.excludedBy.forEach(matched::set);
+                }
+            }
+            return included || (!excluded && publishedByDefault);
+        }
+    }
+
+    /** A trie node: the pages reached once the segments leading here have matched. */
+    private static final class Node {
+
+        private final boolean repeats; // a ** node, which matches any further name and stays active
+        private final Glob glob; // for a node reached by a partial wildcard, what it matches
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<Node> wildcards = new ArrayList<>();
+        private final List<Integer> excludedBy = new ArrayList<>();
+        private final List<Integer> includedBy = new ArrayList<>();
+        private Node anyDepth;
+
+        private Node(boolean repeats) {
+            this(repeats, null);
+        }
+
+        private Node(boolean repeats, Glob glob) {
+            this.repeats = repeats;
+            this.glob = glob;
+        }
+
+        Node child(String segment) {
+            if (ANY_DEPTH.equals(segment)) {
+                if (anyDepth == null) {
+                    anyDepth = new Node(true);
+                }
+                return anyDepth;
+            }
+            if (segment.indexOf('*') < 0) {
+                return literals.computeIfAbsent(segment, name -> new Node(false));
+            }
+            for (Node wildcard : wildcards) {
+                if (wildcard.glob.segment().equals(segment)) {
+                    return wildcard;
+                }
+            }
+            Node wildcard = new Node(false, Glob.of(segment));
+            wildcards.add(wildcard);
+            return wildcard;
+        }
+    }
+
+    /**
+     * A segment holding {@code *}, split once into the literal parts between its wildcards. A name
+     * matches when it starts with the first part, ends with the last, and holds the others in
+     * order between them — found left to right, with no backtracking needed.
+     *
+     * @param segment the segment as written
+     * @param parts the literal parts around each {@code *}, possibly empty
+     */
+    record Glob(String segment, List<String> parts) {
+
+        static Glob of(String segment) {
+            return new Glob(segment, List.of(segment.split("\\*", -1)));
+        }
+
+        boolean matches(String name) {
+            String first = parts.get(0);
+            String last = parts.get(parts.size() - 1);
+            if (name.length() < first.length() + last.length() || !name.startsWith(first) || !name.endsWith(last)) {
+                return false;
+            }
+            int from = first.length();
+            int to = name.length() - last.length();
+            for (int i = 1; i < parts.size() - 1; i++) {
+                int found = name.indexOf(parts.get(i), from);
+                if (found < 0 || found + parts.get(i).length() > to) {
+                    return false;
+                }
+                from = found + parts.get(i).length();
+            }
+            return true;
+        }
+    }
+}
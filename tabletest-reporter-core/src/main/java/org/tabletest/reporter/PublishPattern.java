@@ -17,15 +17,14 @@ package org.tabletest.reporter;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Pattern;
-
-import static java.util.stream.Collectors.joining;
 
 /**
  * One entry of a {@link PublishSelection}: a slash-separated path of report page names naming the
  * pages it selects. A segment matches one page name, where {@code *} stands for any part of a name
  * and a whole segment of {@code **} stands for any number of nested levels (including none). The
  * path matched against is the page's path below the root index — the same path its URL shows.
+ * Matching one path against one pattern is what this record offers; a report walks its pages with
+ * every pattern of a selection at once through a {@link PublishMatcher}.
  *
  * @param segments the pattern's path segments, separator noise already stripped
  */
@@ -68,10 +67,6 @@ record PublishPattern(List<String> segments) {
     }
 
     private static boolean nameMatches(String segment, String pageName) {
-        return segment.indexOf('*') < 0 ? segment.equals(pageName) : Pattern.matches(asRegex(segment), pageName);
-    }
-
-    private static String asRegex(String segment) {
-        return Arrays.stream(segment.split("\\*", -1)).map(Pattern::quote).collect(joining(".*"));
+        return segment.indexOf('*') < 0 ? segment.equals(pageName) : PublishMatcher.Glob.of(segment).matches(pageName);
     }
 }
@@ -64,7 +64,7 @@ public record PublishSelection(List<String> exclude, List<String> include) {
      * {@link #isEmpty() is empty}.
      */
     public ReportNode applyTo(ReportNode root) {
-        return PublishSelectionApplier.apply(root, this);
+        return ReportCuration.apply(root, this, SpecMetadata.EMPTY).root();
     }
 
     private static List<String> parsePaths(Object value) {
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+/**
+ * A format a {@link ReportRenderer} writes, reported through the renderer instead of the
+ * template engine.
+ *
+ * @param formatName the name the format was selected by
+ * @param renderer the renderer writing it
+ */
+record RendererFormat(String formatName, ReportRenderer renderer) implements Format {
+
+    @Override
+    public String extension() {
+        return renderer.extension();
+    }
+}
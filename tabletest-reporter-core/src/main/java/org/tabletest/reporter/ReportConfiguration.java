@@ -16,6 +16,8 @@
 package org.tabletest.reporter;
 
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * The resolved, always-valid set of report-level options that drive a single report run:
@@ -31,6 +33,18 @@ import java.nio.file.Path;
  * @param specMetadata the resolved spec-level curation, or {@link SpecMetadata#EMPTY} when none
  * @param publishSelection the resolved page selection, or {@link PublishSelection#EMPTY} to publish
  *     every page
+ * @param generatedAt the fixed moment to state as the generation time, or null to state the moment
+ *     of the run
+ * @param rowsPerPage the most rows a table page holds before the table continues on further pages,
+ *     or 0 to give every table one page
+ * @param additionalOutputs further formats to render from the same tree, each into its own
+ *     directory and alongside {@code format}; these always render one file per page
+ * @param variants further editions of the report, each curated on its own from the same tree and
+ *     rendered in {@code format} into its own directory
+ * @param compressSections whether a single-file report embeds each table compressed, to be shown
+ *     once the reader reaches it; without {@code singleFile} it has no effect
+ * @param virtualizeAbove the most rows an HTML table page lays out at once; a page of more rows
+ *     renders only those in view as the reader scrolls, or 0 to lay out every row
  */
 public record ReportConfiguration(
         Format format,
@@ -38,4 +52,134 @@ public record ReportConfiguration(
         IndexDepth indexDepth,
         boolean singleFile,
         SpecMetadata specMetadata,
-        PublishSelection publishSelection) {}
+        PublishSelection publishSelection,
+        Instant generatedAt,
+        int rowsPerPage,
+        List<FormatOutput> additionalOutputs,
+        List<ReportVariant> variants,
+        boolean compressSections,
+        int virtualizeAbove) {
+
+    /**
+     * A configuration of the given report-level options that renders every table on one page in
+     * {@code format} alone, stating the moment of the run as its generation time. The {@code with}
+     * methods change the other options.
+     */
+    public ReportConfiguration(
+            Format format,
+            Path templateDirectory,
+            IndexDepth indexDepth,
+            boolean singleFile,
+            SpecMetadata specMetadata,
+            PublishSelection publishSelection) {
+        this(
+                format,
+                templateDirectory,
+                indexDepth,
+                singleFile,
+                specMetadata,
+                publishSelection,
+                null,
+                0,
+                List.of(),
+                List.of(),
+                false,
+                0);
+    }
+
+    public ReportConfiguration withGeneratedAt(Instant generatedAt) {
+        return new ReportConfiguration(
+                format,
+                templateDirectory,
+                indexDepth,
+                singleFile,
+                specMetadata,
+                publishSelection,
+                generatedAt,
+                rowsPerPage,
+                additionalOutputs,
+                variants,
+                compressSections,
+                virtualizeAbove);
+    }
+
+    public ReportConfiguration withRowsPerPage(int rowsPerPage) {
+        return new ReportConfiguration(
+                format,
+                templateDirectory,
+                indexDepth,
+                singleFile,
+                specMetadata,
+                publishSelection,
+                generatedAt,
+                rowsPerPage,
+                additionalOutputs,
+                variants,
+                compressSections,
+                virtualizeAbove);
+    }
+
+    public ReportConfiguration withAdditionalOutputs(List<FormatOutput> additionalOutputs) {
+        return new ReportConfiguration(
+                format,
+                templateDirectory,
+                indexDepth,
+                singleFile,
+                specMetadata,
+                publishSelection,
+                generatedAt,
+                rowsPerPage,
+                additionalOutputs,
+                variants,
+                compressSections,
+                virtualizeAbove);
+    }
+
+    public ReportConfiguration withVariants(List<ReportVariant> variants) {
+        return new ReportConfiguration(
+                format,
+                templateDirectory,
+                indexDepth,
+                singleFile,
+                specMetadata,
+                publishSelection,
+                generatedAt,
+                rowsPerPage,
+                additionalOutputs,
+                variants,
+                compressSections,
+                virtualizeAbove);
+    }
+
+    public ReportConfiguration withCompressSections(boolean compressSections) {
+        return new ReportConfiguration(
+                format,
+                templateDirectory,
+                indexDepth,
+                singleFile,
+                specMetadata,
+                publishSelection,
+                generatedAt,
+                rowsPerPage,
+                additionalOutputs,
+                variants,
+                compressSections,
+                virtualizeAbove);
+    }
+
+    public ReportConfiguration withVirtualizeAbove(int virtualizeAbove) {
+        return new ReportConfiguration(
+                format,
+                templateDirectory,
+                indexDepth,
+                singleFile,
+                specMetadata,
+                publishSelection,
+                generatedAt,
+                rowsPerPage,
+                additionalOutputs,
+                variants,
+                compressSections,
+                virtualizeAbove);
+    }
+}
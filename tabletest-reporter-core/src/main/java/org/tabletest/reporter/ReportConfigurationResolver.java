@@ -17,18 +17,30 @@ package org.tabletest.reporter;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * Resolves the raw {@link ReportOptions} an entry point collected into a validated
  * {@link ReportConfiguration}, applying built-in defaults, parsing the index depth,
  * validating any custom template directory, and resolving the output format. This is the
  * single resolution the Maven mojo, CLI, and Gradle task share instead of each reinventing
- * it. Bad input (an unknown format, a missing or non-directory template path) raises
- * {@link IllegalArgumentException}, which every entry point normalises to its own failure
- * type.
+ * it. Bad input (an unknown format, a missing or non-directory template path, a negative
+ * page size or row limit, an additional format without a directory, a variant without a name,
+ * configuration file or directory) raises {@link IllegalArgumentException}, which every entry
+ * point normalises to its own failure type.
  */
 public final class ReportConfigurationResolver {
 
+    /** The environment variable reproducible builds set to the time every output should state. */
+    static final String SOURCE_DATE_EPOCH = "SOURCE_DATE_EPOCH";
+
+    private static final Pattern VARIANT_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
     private ReportConfigurationResolver() {}
 
     /**
@@ -36,13 +48,27 @@ public final class ReportConfigurationResolver {
      *
      * @param options the raw options collected by an entry point
      * @return the resolved, always-valid configuration
-     * @throws IllegalArgumentException if the format is unknown or the template directory is invalid
+     * @throws IllegalArgumentException if the format is unknown, the template directory is invalid or
+     *     an option does not apply to the report requested
      */
     public static ReportConfiguration resolve(ReportOptions options) {
+        return resolve(options, System.getenv());
+    }
+
+    /**
+     * Resolves report options against the given environment, which supplies
+     * {@value #SOURCE_DATE_EPOCH} when the options name no generation time.
+     */
+    static ReportConfiguration resolve(ReportOptions options, Map<String, String> environment) {
         Path templateDirectory = validatedTemplateDirectory(options.templateDirectory());
         Format format = FormatResolver.resolve(options.format(), templateDirectory);
         IndexDepth indexDepth = IndexDepth.parse(options.indexDepth());
         boolean singleFile = Boolean.TRUE.equals(options.singleFile());
+        boolean compressSections = Boolean.TRUE.equals(options.compressSections());
+        if (compressSections && !singleFile) {
+            throw new IllegalArgumentException(
+                    "Invalid compressSections: only a single-file report embeds its tables compressed");
+        }
         ReportConfigFile configFile = ReportConfigFile.read(options.configFile());
         return new ReportConfiguration(
                 format,
@@ -50,7 +76,89 @@ public final class ReportConfigurationResolver {
                 indexDepth,
                 singleFile,
                 configFile.specMetadata(),
-                configFile.publishSelection());
+                configFile.publishSelection(),
+                generatedAt(options.generatedAt(), environment),
+                wholeNumber(options.rowsPerPage(), "rowsPerPage"),
+                additionalOutputs(options.additionalOutputs(), templateDirectory),
+                variants(options.variants()),
+                compressSections,
+                wholeNumber(options.virtualizeAbove(), "virtualizeAbove"));
+    }
+
+    private static List<ReportVariant> variants(List<VariantOptions> configured) {
+        if (configured == null) {
+            return List.of();
+        }
+        Set<String> names = new HashSet<>();
+        return configured.stream()
+                .map(variant -> {
+                    String name = variant.name();
+                    if (name == null || !VARIANT_NAME.matcher(name).matches()) {
+                        throw new IllegalArgumentException("Invalid variant name '" + name
+                                + "': expected letters, digits, '.', '_' or '-'");
+                    }
+                    if (!names.add(name)) {
+                        throw new IllegalArgumentException("Variant '" + name + "' is declared twice");
+                    }
+                    if (variant.configFile() == null || !Files.isRegularFile(variant.configFile())) {
+                        throw new IllegalArgumentException("Configuration file of variant '" + name
+                                + "' does not exist: " + variant.configFile());
+                    }
+                    if (variant.outputDirectory() == null) {
+                        throw new IllegalArgumentException("Invalid variant '" + name + "': no output directory");
+                    }
+                    ReportConfigFile configFile = ReportConfigFile.read(variant.configFile());
+                    return new ReportVariant(
+                            name, configFile.specMetadata(), configFile.publishSelection(), variant.outputDirectory());
+                })
+                .toList();
+    }
+
+    private static List<FormatOutput> additionalOutputs(Map<String, Path> configured, Path templateDirectory) {
+        if (configured == null) {
+            return List.of();
+        }
+        return configured.entrySet().stream()
+                .map(output -> {
+                    if (output.getKey() == null || output.getKey().isBlank()) {
+                        throw new IllegalArgumentException(
+                                "Invalid additional output: no format named for " + output.getValue());
+                    }
+                    if (output.getValue() == null) {
+                        throw new IllegalArgumentException(
+                                "Invalid additional output '" + output.getKey() + "': no output directory");
+                    }
+                    return new FormatOutput(
+                            FormatResolver.resolve(output.getKey(), templateDirectory), output.getValue());
+                })
+                .toList();
+    }
+
+    private static int wholeNumber(Integer configured, String option) {
+        if (configured == null) {
+            return 0;
+        }
+        if (configured < 0) {
+            throw new IllegalArgumentException(
+                    "Invalid " + option + " '" + configured + "': expected a whole number, zero or more");
+        }
+        return configured;
+    }
+
+    /**
+     * The fixed generation time, if any: the one the options give, else the one the
+     * reproducible-builds convention puts in {@value #SOURCE_DATE_EPOCH}. With neither, a report
+     * states the moment it ran and differs from the previous one on every page.
+     */
+    private static Instant generatedAt(String configured, Map<String, String> environment) {
+        if (configured != null && !configured.isBlank()) {
+            return GeneratedAt.parse(configured, "generatedAt");
+        }
+        String sourceDateEpoch = environment.get(SOURCE_DATE_EPOCH);
+        if (sourceDateEpoch != null && !sourceDateEpoch.isBlank()) {
+            return GeneratedAt.parse(sourceDateEpoch, SOURCE_DATE_EPOCH);
+        }
+        return null;
     }
 
     private static Path validatedTemplateDirectory(Path templateDirectory) {
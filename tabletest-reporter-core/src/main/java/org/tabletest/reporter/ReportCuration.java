@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Curates a built report tree in a single walk: the {@link PublishSelection} decides which pages
+ * remain, the {@link SpecMetadata} titles, introduces and orders those that do, and the aggregate
+ * status of every remaining page is rolled up on the way back, so nothing needs walking again to
+ * show it.
+ * <p>
+ * An excluded page is dropped with everything below it, an included page below an excluded one is
+ * kept, and a feature page whose pages have all gone drops with them; the root index always
+ * publishes. Each declared feature is matched by name among the pages that publish beside it,
+ * retitled and given its description, and put ahead of its siblings in declared order, the rest
+ * following in their existing (alphabetical) order. A declared path or feature that names no page
+ * is logged and skipped, so a curation typo never fails a report.
+ * <p>
+ * The builder's output is left untouched. A page keeps its resource unless curation changes a
+ * value in it, and an index keeps itself unless its resource or any of its pages changed, so the
+ * work done is proportional to what curation changes: nothing selected and nothing declared
+ * returns the very same tree, and several curations of one built tree share every part none of
+ * them touches.
+ */
+final class ReportCuration {
+
+    private static final Logger LOGGER = System.getLogger(ReportCuration.class.getName());
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+
+    private final PublishMatcher matcher;
+    private final Map<ReportNode, ReportStatus> statuses = new IdentityHashMap<>();
+
+    private ReportCuration(PublishMatcher matcher) {
+        this.matcher = matcher;
+    }
+
+    static CuratedReport apply(ReportNode root, PublishSelection selection, SpecMetadata metadata) {
+        ReportCuration curation =
+                new ReportCuration(selection.isEmpty() ? null : PublishMatcher.compile(selection));
+        ReportNode curated = curation.curatedRoot(root, metadata);
+        if (curation.matcher != null) {
+            curation.matcher
+                    .unmatched()
+                    .forEach(declared ->
+                            LOGGER.log(Level.WARNING, "No report page matches publish path ''{0}''", declared));
+        }
+        return new CuratedReport(curated, curation.statuses);
+    }
+
+    private ReportNode curatedRoot(ReportNode root, SpecMetadata metadata) {
+        return switch (root) {
+            case TableNode table -> recorded(enriched(table, metadata.title(), metadata.intro()));
+            case IndexNode index -> {
+                PublishMatcher.State state = matcher != null ? matcher.start() : null;
+                List<ReportNode> contents = curatedContents(index, state, true, metadata.features());
+                yield recorded(rebuilt(index, metadata.title(), metadata.intro(), contents, metadata.features()));
+            }
+        };
+    }
+
+    /** The page as curated, walking every page below it even when it drops, so each path is checked. */
+    private Optional<ReportNode> curatedPage(
+            ReportNode page, PublishMatcher.State state, boolean publishedByDefault, FeatureMetadata feature) {
+        boolean publishes = state == null || state.publishes(publishedByDefault);
+        String title = feature != null ? feature.title() : null;
+        String description = feature != null ? feature.description() : null;
+        return switch (page) {
+            case TableNode table ->
+                publishes ? Optional.of(recorded(enriched(table, title, description))) : Optional.empty();
+            case IndexNode index -> {
+                List<FeatureMetadata> features = feature != null ? feature.features() : List.of();
+                List<ReportNode> contents = curatedContents(index, state, publishes, features);
+                yield state != null && contents.isEmpty()
+                        ? Optional.empty()
+                        : Optional.of(recorded(rebuilt(index, title, description, contents, features)));
+            }
+        };
+    }
+
+    private List<ReportNode> curatedContents(
+            IndexNode index, PublishMatcher.State state, boolean published, List<FeatureMetadata> features) {
+        Map<String, FeatureMetadata> declared = new LinkedHashMap<>();
+        features.forEach(feature -> declared.putIfAbsent(feature.name(), feature));
+        List<ReportNode> contents = new ArrayList<>(index.contents().size());
+        for (ReportNode child : index.contents()) {
+            PublishMatcher.State childState = state != null ? state.step(child.name()) : null;
+            curatedPage(child, childState, published, declared.get(child.name())).ifPresent(contents::add);
+        }
+        return contents;
+    }
+
+    /** The pages in reading order: declared features first, in declared order, then the rest as they were. */
+    private static List<ReportNode> ordered(List<ReportNode> contents, List<FeatureMetadata> features) {
+        if (features.isEmpty()) {
+            return contents;
+        }
+        List<ReportNode> declared = new ArrayList<>();
+        List<ReportNode> remaining = new ArrayList<>(contents);
+        for (FeatureMetadata feature : features) {
+            ReportNode match = removeMatch(remaining, feature.name());
+            if (match == null) {
+                LOGGER.log(Level.WARNING, "No report node matches declared feature ''{0}''", feature.name());
+                continue;
+            }
+            declared.add(match);
+        }
+        declared.addAll(remaining);
+        return declared;
+    }
+
+    private static ReportNode removeMatch(List<ReportNode> nodes, String name) {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (name.equals(nodes.get(i).name())) {
+                return nodes.remove(i);
+            }
+        }
+        return null;
+    }
+
+    /** The index holding the given pages: the index itself when curation changed neither them nor its resource. */
+    private static IndexNode rebuilt(
+            IndexNode index,
+            String title,
+            String description,
+            List<ReportNode> contents,
+            List<FeatureMetadata> features) {
+        List<ReportNode> ordered = ordered(contents, features);
+        Map<String, Object> resource = enriched(index.resource(), title, description);
+        if (resource == index.resource() && sameNodes(ordered, index.contents())) {
+            return index;
+        }
+        return new IndexNode(index.name(), index.outPath(), resource, ordered);
+    }
+
+    private static TableNode enriched(TableNode table, String title, String description) {
+        Map<String, Object> resource = enriched(table.resource(), title, description);
+        return resource == table.resource() ? table : new TableNode(table.name(), table.outPath(), resource);
+    }
+
+    /** The resource with the given title and description: the resource itself when it already holds them. */
+    private static Map<String, Object> enriched(Map<String, Object> resource, String title, String description) {
+        if (holds(resource, TITLE, title) && holds(resource, DESCRIPTION, description)) {
+            return resource;
+        }
+        Map<String, Object> copy = new LinkedHashMap<>(resource != null ? resource : Map.of());
+        if (title != null) {
+            copy.put(TITLE, title);
+        }
+        if (description != null) {
+            copy.put(DESCRIPTION, description);
+        }
+        return copy;
+    }
+
+    private static boolean holds(Map<String, Object> resource, String key, String value) {
+        return value == null || resource != null && value.equals(resource.get(key));
+    }
+
+    private static boolean sameNodes(List<ReportNode> nodes, List<ReportNode> others) {
+        if (nodes.size() != others.size()) {
+            return false;
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i) != others.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Records the page's aggregate status, rolled up from the statuses its pages recorded before it. */
+    private ReportNode recorded(ReportNode node) {
+        ReportStatus status = switch (node) {
+            case TableNode table -> StatusRollup.of(table);
+            case IndexNode index ->
+                index.contents().stream().map(statuses::get).reduce(ReportStatus.none(), ReportStatus::plus);
+        };
+        statuses.put(node, status);
+        return node;
+    }
+}
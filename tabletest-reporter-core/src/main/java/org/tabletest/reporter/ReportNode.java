@@ -15,12 +15,12 @@
  */
 package org.tabletest.reporter;
 
-import java.util.List;
 import java.util.Map;
 
 /**
  * Represents a node in the report structure tree.
  * Nodes can be either index pages (with children) or table leaf pages.
+ * A {@link ReportRenderer} writes its pages straight from these nodes.
  */
 public sealed interface ReportNode permits IndexNode, TableNode {
     String name();
@@ -31,42 +31,3 @@ public sealed interface ReportNode permits IndexNode, TableNode {
 
     String type();
 }
-
-/**
- * An index node representing a package or test class directory.
- * Contains links to child nodes (other indexes or tables).
- */
-record IndexNode(String name, String outPath, Map<String, Object> resource, List<ReportNode> contents)
-        implements ReportNode {
-
-    public IndexNode {
-        contents = List.copyOf(contents);
-    }
-
-    /**
-     * Template compatibility: Pebble templates check node type.
-     */
-    public String type() {
-        return "index";
-    }
-}
-
-/**
- * A table leaf node representing a single TableTest method's report.
- * Always has an associated YAML resource map.
- */
-record TableNode(String name, String outPath, Map<String, Object> resource) implements ReportNode {
-
-    public TableNode {
-        if (resource == null) {
-            throw new IllegalArgumentException("TableNode must have a resource");
-        }
-    }
-
-    /**
-     * Template compatibility: Pebble templates check node type.
-     */
-    public String type() {
-        return "table";
-    }
-}
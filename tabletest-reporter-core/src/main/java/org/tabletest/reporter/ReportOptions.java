@@ -16,6 +16,8 @@
 package org.tabletest.reporter;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 /**
  * The raw, partially-specified report options a single entry point (Maven mojo, CLI, or
@@ -30,6 +32,28 @@ import java.nio.file.Path;
  * @param singleFile whether to assemble a single-file report, or null for the default (false)
  * @param configFile the resolved {@code tabletest-reporter.yaml} path to read spec metadata from,
  *     or null when none applies (no file present or none configured)
+ * @param generatedAt the generation time to state in the report, as an ISO-8601 instant or as
+ *     seconds since the epoch, or null to fall back to {@code SOURCE_DATE_EPOCH} and then to the
+ *     moment of the run
+ * @param rowsPerPage the most rows a table page holds, or null or 0 to give every table one page
+ * @param additionalOutputs further formats to render, by name, each with the directory its pages
+ *     go to, or null for none
+ * @param variants further editions of the report, each with its own configuration file and output
+ *     directory, or null for none
+ * @param compressSections whether a single-file report embeds its tables compressed, or null for the
+ *     default (false)
+ * @param virtualizeAbove the most rows an HTML table page lays out at once, or null or 0 to lay out
+ *     every row
  */
 public record ReportOptions(
-        String format, Path templateDirectory, String indexDepth, Boolean singleFile, Path configFile) {}
+        String format,
+        Path templateDirectory,
+        String indexDepth,
+        Boolean singleFile,
+        Path configFile,
+        String generatedAt,
+        Integer rowsPerPage,
+        Map<String, Path> additionalOutputs,
+        List<VariantOptions> variants,
+        Boolean compressSections,
+        Integer virtualizeAbove) {}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A report format written in Java rather than from Pebble templates. A renderer writes each page
+ * straight to the file's stream from the report's nodes, so a machine-readable export such as JSON
+ * or XML is written at the speed of the disk and with the escaping its own library gets right.
+ * <p>
+ * Renderers are found with {@link java.util.ServiceLoader}: a jar on the reporter's class path
+ * names its implementation in {@code META-INF/services/org.tabletest.reporter.ReportRenderer}, and
+ * the format is then selected by {@link #formatName()} like any other. A renderer's format takes
+ * precedence over templates of the same name; the name of a built-in format is refused.
+ * <p>
+ * The report is laid out as for a template format: an index page per package, class or feature,
+ * and a page per table, or several when {@code rowsPerPage} splits it. Pages are written on
+ * several threads at once, so an implementation must be thread-safe. Every page renders, even when
+ * a report is updated rather than rendered afresh, and single-file mode is not offered.
+ */
+public interface ReportRenderer {
+
+    /** The name the format is selected by, such as {@code json}. */
+    String formatName();
+
+    /** The extension of the files written, leading dot included; by default the format name's. */
+    default String extension() {
+        return "." + formatName();
+    }
+
+    /**
+     * Writes the page of an index. The stream is buffered and closed once the method returns.
+     *
+     * @param index the index, holding the nodes beneath it
+     * @param page where the page sits in the report
+     * @param out the page's file
+     */
+    void renderIndex(IndexNode index, Page page, OutputStream out) throws IOException;
+
+    /**
+     * Writes one page of a table. The stream is buffered and closed once the method returns.
+     *
+     * @param table the table, holding all of its rows whichever of them the page shows
+     * @param page where the page sits in the report, and which of the table's rows it shows
+     * @param out the page's file
+     */
+    void renderTable(TableNode table, Page page, OutputStream out) throws IOException;
+
+    /**
+     * Where a page sits in the report.
+     *
+     * @param ancestors the indexes above the page's node, from the root down
+     * @param totalScenarios the scenarios run beneath the node, with the publish selection applied
+     * @param passedScenarios how many of those passed
+     * @param fromRow the index of the first table row the page shows; 0 for an index
+     * @param toRow the index after the last table row the page shows; 0 for an index
+     * @param generatedAt the moment the report states it was generated
+     */
+    record Page(
+            List<ReportNode> ancestors,
+            int totalScenarios,
+            int passedScenarios,
+            int fromRow,
+            int toRow,
+            Instant generatedAt) {
+
+        public Page {
+            ancestors = List.copyOf(ancestors);
+        }
+    }
+}
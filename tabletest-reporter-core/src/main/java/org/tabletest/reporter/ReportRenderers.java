@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The {@link ReportRenderer}s a report can choose from, by format name. Those on the class path
+ * are loaded once, the first time they are asked for, which resolving a built-in format never
+ * does. Should loading fail, the failure is kept and reported each time they are asked for again,
+ * while the built-in formats go on working.
+ */
+final class ReportRenderers {
+
+    private static final Installed INSTALLED = new Installed(() ->
+            ServiceLoader.load(ReportRenderer.class, ReportRenderer.class.getClassLoader()).stream()
+                    .map(ServiceLoader.Provider::get)
+                    .toList());
+
+    private final Map<String, ReportRenderer> byName;
+
+    private ReportRenderers(Map<String, ReportRenderer> byName) {
+        this.byName = byName;
+    }
+
+    /**
+     * The renderers on the reporter's class path.
+     *
+     * @throws IllegalArgumentException if they could not be loaded
+     */
+    static ReportRenderers installed() {
+        return INSTALLED.renderers();
+    }
+
+    /**
+     * The given renderers, by their format names taken in lower case.
+     *
+     * @throws IllegalStateException if a renderer names no format or the name of a built-in one, or
+     *     two take the same name
+     */
+    static ReportRenderers of(List<ReportRenderer> renderers) {
+        Map<String, ReportRenderer> byName = new HashMap<>();
+        for (ReportRenderer renderer : renderers) {
+            String formatName = renderer.formatName();
+            if (formatName == null || formatName.isBlank()) {
+                throw new IllegalStateException(
+                        "Report renderer " + renderer.getClass().getName() + " names no format");
+            }
+            String name = formatName.trim().toLowerCase(Locale.ROOT);
+            if (FormatResolver.builtIn(name) != null) {
+                throw new IllegalStateException("Report renderer "
+                        + renderer.getClass().getName() + " cannot take the built-in format name " + name);
+            }
+            ReportRenderer taken = byName.putIfAbsent(name, renderer);
+            if (taken != null) {
+                throw new IllegalStateException("Report renderers " + taken.getClass().getName() + " and "
+                        + renderer.getClass().getName() + " both render format " + name);
+            }
+        }
+        return new ReportRenderers(Map.copyOf(byName));
+    }
+
+    /** The format a renderer writes under the name, or null when none does. */
+    Format find(String formatName) {
+        ReportRenderer renderer = byName.get(formatName);
+        return renderer != null ? new RendererFormat(formatName, renderer) : null;
+    }
+
+    Set<String> formatNames() {
+        return byName.keySet();
+    }
+
+    /** Holds the class path's renderers, or the failure to load them, from when they were first asked for. */
+    static final class Installed {
+
+        private final Supplier<List<ReportRenderer>> loader;
+        private ReportRenderers renderers;
+        private Throwable failure;
+
+        Installed(Supplier<List<ReportRenderer>> loader) {
+            this.loader = loader;
+        }
+
+        synchronized ReportRenderers renderers() {
+            if (renderers == null && failure == null) {
+                try {
+                    renderers = of(loader.get());
+                } catch (IllegalStateException | ServiceConfigurationError e) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                throw new IllegalArgumentException(
+                        "Report renderers on the class path cannot be loaded: " + failure.getMessage(), failure);
+            }
+            return renderers;
+        }
+    }
+}
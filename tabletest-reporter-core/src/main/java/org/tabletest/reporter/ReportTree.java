@@ -45,15 +45,28 @@ public class ReportTree {
      * @return typed node hierarchy describing the desired report structure
      */
     public static ReportNode process(List<Path> dirs) {
+        return process(dirs, null);
+    }
+
+    /**
+     * Processes several directories as {@link #process(List)} does, taking the parsed content of
+     * files that have not changed from a cache a long-running process keeps.
+     *
+     * @param dirs directories to traverse for .yaml files, in declared order
+     * @param cache parsed sources from earlier reports, or null to parse every file
+     * @return typed node hierarchy describing the desired report structure
+     */
+    static ReportNode process(List<Path> dirs, SourceCache cache) {
         if (dirs == null || dirs.isEmpty()) {
             throw new IllegalArgumentException("argument `dirs` cannot be null or empty");
         }
         List<Source> sources =
-                dirs.stream().flatMap(dir -> sourcesIn(dir).stream()).toList();
+                dirs.stream().flatMap(dir -> sourcesIn(dir, cache).stream()).toList();
         return TreeBuilder.buildTree(sources);
     }
 
-    private static List<Source> sourcesIn(Path dir) {
-        return SourceLoader.loadSources(dir, TestOutputFileFinder.findTestOutputFiles(dir));
+    private static List<Source> sourcesIn(Path dir, SourceCache cache) {
+        List<Path> files = TestOutputFileFinder.findTestOutputFiles(dir);
+        return cache != null ? SourceLoader.loadSources(dir, files, cache) : SourceLoader.loadSources(dir, files);
     }
 }
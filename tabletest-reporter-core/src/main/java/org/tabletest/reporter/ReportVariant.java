@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.nio.file.Path;
+
+/**
+ * A further edition of the report, curated on its own from the same loaded tree: an internal spec
+ * and a trimmed one for customers, say. The variant renders in the report's format into a directory
+ * of its own, and shares every page its curation leaves unchanged with the report's tree.
+ *
+ * @param name the variant's name, unique among the report's variants
+ * @param specMetadata the variant's spec-level curation, or {@link SpecMetadata#EMPTY} when none
+ * @param publishSelection the variant's page selection, or {@link PublishSelection#EMPTY} to publish
+ *     every page
+ * @param outputDirectory the directory to write the variant's pages to
+ */
+public record ReportVariant(
+        String name, SpecMetadata specMetadata, PublishSelection publishSelection, Path outputDirectory) {}
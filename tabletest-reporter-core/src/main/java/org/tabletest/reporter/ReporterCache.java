@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * What a long-running process keeps warm between reports: the compiled templates of each template
+ * directory and the parsed TableTest output. A process that reports again and again — a daemon an
+ * IDE or a pre-commit hook talks to — then pays for template compilation once and parses only the
+ * output that changed since its last report. A custom template directory whose files changed is
+ * compiled again, so an edited template shows in the next report. Safe to share between threads.
+ */
+public final class ReporterCache {
+
+    private final SourceCache sources = new SourceCache();
+    private final Map<Optional<Path>, WarmEngine> engines = new ConcurrentHashMap<>();
+
+    public ReporterCache() {}
+
+    /**
+     * A reporter for the given configuration that draws on this cache.
+     *
+     * @param configuration the resolved configuration to report with
+     * @return a reporter sharing this cache's templates and parsed sources
+     */
+    public TableTestReporter reporter(ReportConfiguration configuration) {
+        return new TableTestReporter(configuration, engine(configuration.templateDirectory()), sources);
+    }
+
+    private TemplateEngine engine(Path templateDirectory) {
+        Optional<Path> key = Optional.ofNullable(templateDirectory).map(dir -> dir.toAbsolutePath().normalize());
+        String stamp = key.map(ReporterCache::stamp).orElse("");
+        return engines.compute(key, (dir, warm) -> warm != null && warm.stamp().equals(stamp)
+                        ? warm
+                        : new WarmEngine(stamp, dir.map(TemplateEngine::new).orElseGet(TemplateEngine::new)))
+                .engine();
+    }
+
+    /** The name, size and modification time of every file in a template directory. */
+    private static String stamp(Path templateDirectory) {
+        StringBuilder stamp = new StringBuilder();
+        try (Stream<Path> files = Files.walk(templateDirectory)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                stamp.append(templateDirectory.relativize(file))
+                        .append(' ')
+                        .append(Files.size(file))
+                        .append(' ')
+                        .append(Files.getLastModifiedTime(file))
+                        .append('\n');
+            }
+        } catch (IOException e) {
+            // An unreadable directory compiles afresh every time, and fails there with its own message
+            return String.valueOf(System.nanoTime());
+        }
+        return stamp.toString();
+    }
+
+    private record WarmEngine(String stamp, TemplateEngine engine) {}
+}
@@ -15,6 +15,8 @@
  */
 package org.tabletest.reporter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -26,8 +28,11 @@ import java.util.function.Function;
  * The whole-report search index: one entry per page, each with the page's root-relative path,
  * display title, roll-up status, and a searchable text blob flattened from the page's own
  * title, description, headers, and cell values. Pure over the report tree — building it has no
- * side effects; the reporter writes {@link #asJavaScript()} once to the output root and every
- * page loads it to search across the whole report.
+ * side effects; the reporter writes {@link #writeJavaScript(Appendable)} once to the output root
+ * and every page loads it to search across the whole report.
+ * <p>
+ * Entries are derived from the tree each time they are asked for rather than held, so writing
+ * the asset streams one entry at a time and never has the whole index in memory at once.
  */
 final class SearchIndex {
 
@@ -35,30 +40,44 @@ final class SearchIndex {
     static final String ASSET_NAME = "tabletest-search-index.js";
 
     private static final String GLOBAL = "window.TableTestSearchIndex";
+    private static final String PACKED_GLOBAL = GLOBAL + "Packed";
 
-    private final List<Map<String, Object>> entries;
+    private final CuratedReport report;
+    private final Function<ReportNode, String> pathResolver;
+    private final int rowsPerPage;
 
-    private SearchIndex(List<Map<String, Object>> entries) {
-        this.entries = entries;
+    private SearchIndex(CuratedReport report, Function<ReportNode, String> pathResolver, int rowsPerPage) {
+        this.report = report;
+        this.pathResolver = pathResolver;
+        this.rowsPerPage = rowsPerPage;
     }
 
     /** Multi-file index: each entry's path is the target page's file, root-relative. */
     static SearchIndex of(ReportNode root) {
-        return of(root, NavLinks::rootPath);
+        return of(CuratedReport.of(root), 0);
+    }
+
+    /**
+     * Multi-file index of a report whose tables are split into pages of at most
+     * {@code rowsPerPage} rows: a split table has one entry per page, holding that page's rows
+     * and pointing at that page, so a search for a row lands where the row is.
+     */
+    static SearchIndex of(CuratedReport report, int rowsPerPage) {
+        return new SearchIndex(report, NavLinks::rootPath, rowsPerPage);
     }
 
     /**
      * Builds the index resolving each entry's path with the given resolver. Multi-file mode maps a
      * node to its root-relative file; single-file mode maps it to an in-page {@code #anchor}.
      */
-    static SearchIndex of(ReportNode root, Function<ReportNode, String> pathResolver) {
-        List<Map<String, Object>> entries = new ArrayList<>();
-        collectEntries(root, entries, pathResolver);
-        return new SearchIndex(List.copyOf(entries));
+    static SearchIndex of(CuratedReport report, Function<ReportNode, String> pathResolver) {
+        return new SearchIndex(report, pathResolver, 0);
     }
 
     List<Map<String, Object>> entries() {
-        return entries;
+        List<Map<String, Object>> entries = new ArrayList<>();
+        collectEntries(report.root(), entries);
+        return List.copyOf(entries);
     }
 
     /**
@@ -72,7 +91,7 @@ final class SearchIndex {
         if (needle.isEmpty()) {
             return List.of();
         }
-        return entries.stream()
+        return entries().stream()
                 .filter(entry -> haystack(entry).contains(needle))
                 .toList();
     }
@@ -82,27 +101,101 @@ final class SearchIndex {
     }
 
     String asJavaScript() {
-        return GLOBAL + " = " + Json.encode(entries) + ";\n";
+        StringBuilder javascript = new StringBuilder();
+        try {
+            writeJavaScript(javascript);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unexpected failure appending to a StringBuilder", e);
+        }
+        return javascript.toString();
+    }
+
+    /** Writes the asset assigning the index to its global, entry by entry as each is derived. */
+    void writeJavaScript(Appendable out) throws IOException {
+        out.append(GLOBAL).append(" = ");
+        writeJson(out);
+        out.append(";\n");
+    }
+
+    /**
+     * The script a compressed single-file report carries instead: the index as a compressed JSON
+     * array, assigned to a global of its own for the page to decode into {@value #GLOBAL} when the
+     * reader first searches.
+     */
+    String asPackedJavaScript() {
+        return PACKED_GLOBAL + " = \"" + CompressedText.of(this::writeJson) + "\";\n";
+    }
+
+    /** Writes the index as a JSON array, entry by entry as each is derived. */
+    void writeJson(Appendable out) throws IOException {
+        out.append('[');
+        writeEntries(report.root(), out, true);
+        out.append(']');
     }
 
-    private static void collectEntries(
-            ReportNode node, List<Map<String, Object>> entries, Function<ReportNode, String> pathResolver) {
-        entries.add(entryFor(node, pathResolver));
+    private void writeEntries(ReportNode node, Appendable out, boolean first) throws IOException {
+        for (Map<String, Object> entry : entriesFor(node)) {
+            if (!first) {
+                out.append(',');
+            }
+            Json.write(out, entry);
+            first = false;
+        }
         if (node instanceof IndexNode index) {
-            index.contents().forEach(child -> collectEntries(child, entries, pathResolver));
+            for (ReportNode child : index.contents()) {
+                writeEntries(child, out, false);
+            }
+        }
+    }
+
+    private void collectEntries(ReportNode node, List<Map<String, Object>> entries) {
+        entries.addAll(entriesFor(node));
+        if (node instanceof IndexNode index) {
+            index.contents().forEach(child -> collectEntries(child, entries));
+        }
+    }
+
+    private List<Map<String, Object>> entriesFor(ReportNode node) {
+        if (node instanceof TableNode table) {
+            List<TablePage> pages = TablePage.of(table, rowsPerPage);
+            if (pages.size() > 1) {
+                return pages.stream().map(page -> pageEntryFor(table, page)).toList();
+            }
         }
+        return List.of(entryFor(node));
     }
 
-    private static Map<String, Object> entryFor(ReportNode node, Function<ReportNode, String> pathResolver) {
+    private Map<String, Object> entryFor(ReportNode node) {
         Map<String, Object> entry = new LinkedHashMap<>();
         entry.put("path", pathResolver.apply(node));
         entry.put("title", title(node));
         entry.put("type", node.type());
-        entry.put("status", StatusRollup.of(node).state());
+        entry.put("status", report.status(node).state());
         entry.put("text", searchableText(node));
         return entry;
     }
 
+    /** The entry of one page of a split table, carrying only that page's rows. */
+    private Map<String, Object> pageEntryFor(TableNode table, TablePage page) {
+        String tablePath = pathResolver.apply(table);
+        int extension = tablePath.lastIndexOf('.');
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("path", tablePath.substring(0, extension) + page.suffix() + tablePath.substring(extension));
+        entry.put("title", title(table) + " (page " + page.number() + " of " + page.count() + ")");
+        entry.put("type", table.type());
+        entry.put("status", report.status(table).state());
+        List<String> parts = new ArrayList<>();
+        addIfPresent(parts, table.name());
+        addIfPresent(parts, asString(table.resource().get("title")));
+        addIfPresent(parts, asString(table.resource().get("description")));
+        collectCells(table.resource().get("headers"), parts);
+        if (table.resource().get("rows") instanceof List<?> rows) {
+            collectRows(rows.subList(page.fromRow(), page.toRow()), parts);
+        }
+        entry.put("text", String.join(" ", parts));
+        return entry;
+    }
+
     private static String title(ReportNode node) {
         Object title = node.resource() != null ? node.resource().get("title") : null;
         if (title != null) {
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Assembles the render context for a single-file HTML report: the whole tree flattened into one
@@ -27,6 +28,11 @@ import java.util.Map;
  * index target in-page {@code #anchor}s instead of files, and the search index is inlined so the
  * result needs no sibling assets. Pure over the report tree — building the model has no side
  * effects; the reporter renders it once and writes a single file.
+ * <p>
+ * A compressed model carries each table's grid and broken scenarios, and the search index, as
+ * {@link CompressedText} instead. The page shows a table's verdict and description at once and
+ * decodes the rest when the reader scrolls to it or opens it, so the document stays small however
+ * many rows the report holds.
  */
 final class SingleFileModel {
 
@@ -34,15 +40,27 @@ final class SingleFileModel {
 
     private SingleFileModel() {}
 
-    static Map<String, Object> of(ReportNode root, GeneratedAt generatedAt) {
+    static Map<String, Object> of(CuratedReport report, GeneratedAt generatedAt) {
+        return of(report, generatedAt, null);
+    }
+
+    /**
+     * The model of a report whose tables are compressed, each rendered for its section by
+     * {@code tableRenderer} first; with no renderer, tables are inlined as they are.
+     */
+    static Map<String, Object> of(
+            CuratedReport report, GeneratedAt generatedAt, Function<Map<String, Object>, String> tableRenderer) {
+        ReportNode root = report.root();
+        SearchIndex searchIndex = SearchIndex.of(report, SingleFileModel::anchorHref);
         Map<String, Object> context = new HashMap<>();
         context.put("generatedAt", generatedAt.toMap());
         context.put("title", NavModel.label(root));
         context.put("description", description(root));
-        context.put("sections", sections(root));
-        context.put("nav", NavModel.build(root, null, SingleFileModel::anchorHref));
+        context.put("sections", sections(report, tableRenderer));
+        context.put("nav", NavModel.build(report, null, SingleFileModel::anchorHref));
         context.put(
-                "searchData", SearchIndex.of(root, SingleFileModel::anchorHref).asJavaScript());
+                "searchData",
+                tableRenderer != null ? searchIndex.asPackedJavaScript() : searchIndex.asJavaScript());
         context.put("assetRoot", "");
         return context;
     }
@@ -57,27 +75,48 @@ final class SingleFileModel {
         return "#" + anchor(node);
     }
 
-    private static List<Map<String, Object>> sections(ReportNode root) {
+    private static List<Map<String, Object>> sections(
+            CuratedReport report, Function<Map<String, Object>, String> tableRenderer) {
         List<Map<String, Object>> sections = new ArrayList<>();
-        if (root instanceof IndexNode index) {
-            index.contents().forEach(child -> collectSections(child, 1, sections));
+        if (report.root() instanceof IndexNode index) {
+            index.contents().forEach(child -> collectSections(report, child, 1, tableRenderer, sections));
         }
         return sections;
     }
 
-    private static void collectSections(ReportNode node, int depth, List<Map<String, Object>> sections) {
-        sections.add(section(node, depth));
+    private static void collectSections(
+            CuratedReport report,
+            ReportNode node,
+            int depth,
+            Function<Map<String, Object>, String> tableRenderer,
+            List<Map<String, Object>> sections) {
+        Map<String, Object> section = section(report, node, depth);
+        if (tableRenderer != null && node instanceof TableNode) {
+            pack(section, tableRenderer);
+        }
+        sections.add(section);
         if (node instanceof IndexNode index) {
-            index.contents().forEach(child -> collectSections(child, depth + 1, sections));
+            index.contents().forEach(child -> collectSections(report, child, depth + 1, tableRenderer, sections));
         }
     }
 
-    private static Map<String, Object> section(ReportNode node, int depth) {
+    /**
+     * Replaces the section's rows with their compressed rendering. The headers and rows go; the
+     * row results stay, as the verdict shown above the packed table is counted from them.
+     */
+    private static void pack(Map<String, Object> section, Function<Map<String, Object>, String> tableRenderer) {
+        section.put("packed", CompressedText.of(tableRenderer.apply(section)));
+        section.put("rowCount", section.get("rows") instanceof List<?> rows ? rows.size() : 0);
+        section.put("headers", List.of());
+        section.put("rows", List.of());
+    }
+
+    private static Map<String, Object> section(CuratedReport report, ReportNode node, int depth) {
         Map<String, Object> section = new LinkedHashMap<>();
         section.put("anchor", anchor(node));
         section.put("title", NavModel.label(node));
         section.put("type", node.type());
-        section.put("status", StatusRollup.of(node).state());
+        section.put("status", report.status(node).state());
         section.put("level", Math.min(depth + 1, MAX_HEADING_LEVEL));
         section.put("description", description(node));
         if (node instanceof TableNode table) {
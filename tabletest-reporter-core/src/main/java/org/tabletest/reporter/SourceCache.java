@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+
+/**
+ * Parsed TableTest output kept between the reports of one long-running process. A file is parsed
+ * again only when its size, modification time or content changed, so a report from output that a
+ * single test class rewrote parses that class's files alone. The content is checked by a checksum
+ * whenever size and time match, since a rewrite of the same size within the resolution of the
+ * file system's timestamps, which watch mode makes likely, leaves both as they were. Each pass over a directory forgets the files
+ * under it that the pass no longer found, so the cache holds no more than the output the process
+ * last reported from. Safe to share between threads.
+ */
+final class SourceCache {
+
+    private final Map<Path, Parsed> parsed = new ConcurrentHashMap<>();
+
+    /**
+     * The parsed content of a file, from the cache while the file is unchanged.
+     *
+     * @param file the file to read
+     * @param parser parses the file when the cache cannot answer
+     */
+    Map<String, Object> yaml(Path file, Function<Path, Map<String, Object>> parser) {
+        Path key = file.toAbsolutePath().normalize();
+        String stamp = stamp(key);
+        if (stamp == null) {
+            return parser.apply(file);
+        }
+        Parsed cached = parsed.get(key);
+        if (cached != null && cached.stamp().equals(stamp) && cached.checksum() == checksum(key)) {
+            return cached.yaml();
+        }
+        long checksum = checksum(key);
+        Map<String, Object> yaml = parser.apply(file);
+        if (checksum != -1) {
+            parsed.put(key, new Parsed(stamp, checksum, yaml));
+        }
+        return yaml;
+    }
+
+    /**
+     * Forgets the files under a directory that a pass over it did not find, such as the output of
+     * a test class since deleted. Files under other directories are kept for the reports that read
+     * them.
+     *
+     * @param dir the directory the pass walked
+     * @param visited the files the pass found, relative to the directory
+     */
+    void retainVisited(Path dir, Collection<Path> visited) {
+        Path root = dir.toAbsolutePath().normalize();
+        Set<Path> keep = visited.stream()
+                .map(file -> root.resolve(file).normalize())
+                .collect(Collectors.toSet());
+        parsed.keySet().removeIf(key -> key.startsWith(root) && !keep.contains(key));
+    }
+
+    /** The size and modification time of a file, or null when they cannot be read. */
+    private static String stamp(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.size() + "@" + attributes.lastModifiedTime();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** The CRC-32C of a file's content, or -1 when it cannot be read. */
+    private static long checksum(Path file) {
+        try {
+            CRC32C crc = new CRC32C();
+            crc.update(Files.readAllBytes(file));
+            return crc.getValue();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private record Parsed(String stamp, long checksum, Map<String, Object> yaml) {}
+}
@@ -34,6 +34,21 @@ final class SourceLoader {
                 .toList();
     }
 
+    /**
+     * Loads the sources, parsing only the files the cache has not seen in their current state, and
+     * lets the cache forget the files under the directory that are gone.
+     */
+    static List<Source> loadSources(Path dir, List<Path> files, SourceCache cache) {
+        List<Source> sources = files.stream()
+                .map(file -> new Source(
+                        file,
+                        cache.yaml(dir.resolve(file), SourceLoader::readYaml),
+                        lastModified(dir.resolve(file))))
+                .toList();
+        cache.retainVisited(dir, files);
+        return sources;
+    }
+
     private static Instant lastModified(Path resource) {
         try {
             return Files.getLastModifiedTime(resource).toInstant();
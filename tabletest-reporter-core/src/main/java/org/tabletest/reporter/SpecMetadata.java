@@ -62,7 +62,7 @@ public record SpecMetadata(String title, String intro, List<FeatureMetadata> fea
      * Returns the same tree unchanged when this metadata {@link #isEmpty() is empty}.
      */
     public ReportNode applyTo(ReportNode root) {
-        return SpecMetadataApplier.apply(root, this);
+        return ReportCuration.apply(root, PublishSelection.EMPTY, this).root();
     }
 
     static List<FeatureMetadata> parseFeatures(Object value) {
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.util.Map;
+
+/**
+ * A table leaf node representing a single TableTest method's report.
+ * Always has an associated YAML resource map.
+ */
+public record TableNode(String name, String outPath, Map<String, Object> resource) implements ReportNode {
+
+    public TableNode {
+        if (resource == null) {
+            throw new IllegalArgumentException("TableNode must have a resource");
+        }
+    }
+
+    /**
+     * Template compatibility: Pebble templates check node type.
+     */
+    public String type() {
+        return "table";
+    }
+}
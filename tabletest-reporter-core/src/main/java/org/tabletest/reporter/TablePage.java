@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * One page of a table's rows. A table holding more rows than a page may — one backed by a
+ * generated or CSV source of many thousands of rows — continues on further pages, so no page
+ * grows past what a browser renders comfortably. The first page keeps the table's own path, so
+ * every link to the table still lands on its start; page {@code n} is written beside it with
+ * {@code .page-n} before the extension, which no slug can hold.
+ *
+ * @param number the page's number, from 1
+ * @param count the number of pages the table is split into
+ * @param fromRow the index of the page's first row
+ * @param toRow the index after the page's last row
+ * @param totalRows the number of rows in the whole table
+ */
+record TablePage(int number, int count, int fromRow, int toRow, int totalRows) {
+
+    private static final String PAGE_MARKER = ".page-";
+
+    /**
+     * The pages of a table.
+     *
+     * @param rowsPerPage the most rows a page holds, or 0 for one page however many rows there are
+     */
+    static List<TablePage> of(TableNode table, int rowsPerPage) {
+        int rows = table.resource().get("rows") instanceof List<?> list ? list.size() : 0;
+        if (rowsPerPage <= 0 || rows <= rowsPerPage) {
+            return List.of(new TablePage(1, 1, 0, rows, rows));
+        }
+        int count = (rows + rowsPerPage - 1) / rowsPerPage;
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(number -> new TablePage(
+                        number, count, (number - 1) * rowsPerPage, Math.min(number * rowsPerPage, rows), rows))
+                .toList();
+    }
+
+    /** What follows the table's name in this page's file name, before the extension. */
+    String suffix() {
+        return suffix(number);
+    }
+
+    /**
+     * The page's template context, from the context of the whole table: the page's own rows and a
+     * {@code pagination} entry linking the pages. A table of one page keeps its context as is.
+     * <p>
+     * When every row ran once, the results are cut the same way as the rows, so a page states the
+     * verdict and failures of its own rows. When rows expanded into several invocations each, the
+     * results cannot be told apart by row, and every page keeps them all.
+     *
+     * @param tableContext the context of the whole table
+     * @param tableFileName the table's file name without extension, to link the pages with
+     * @param extension the format's file extension, leading dot included
+     */
+    Map<String, Object> context(Map<String, Object> tableContext, String tableFileName, String extension) {
+        if (count == 1) {
+            return tableContext;
+        }
+        Map<String, Object> context = new HashMap<>(tableContext);
+        context.put("rows", ((List<?>) tableContext.get("rows")).subList(fromRow, toRow));
+        if (tableContext.get("rowResults") instanceof List<?> results && results.size() == totalRows) {
+            context.put("rowResults", results.subList(fromRow, toRow));
+        }
+        context.put("pagination", pagination(tableFileName, extension));
+        return context;
+    }
+
+    private Map<String, Object> pagination(String tableFileName, String extension) {
+        Map<String, Object> pagination = new HashMap<>();
+        pagination.put("page", number);
+        pagination.put("pages", count);
+        pagination.put("firstRow", fromRow + 1);
+        pagination.put("lastRow", toRow);
+        pagination.put("totalRows", totalRows);
+        if (number > 1) {
+            pagination.put("previous", "./" + tableFileName + suffix(number - 1) + extension);
+        }
+        if (number < count) {
+            pagination.put("next", "./" + tableFileName + suffix(number + 1) + extension);
+        }
+        return pagination;
+    }
+
+    private static String suffix(int number) {
+        return number == 1 ? "" : PAGE_MARKER + number;
+    }
+}
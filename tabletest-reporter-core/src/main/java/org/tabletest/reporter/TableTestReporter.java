@@ -16,18 +16,31 @@
 package org.tabletest.reporter;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class TableTestReporter {
 
+    private static final Logger LOGGER = System.getLogger(TableTestReporter.class.getName());
+
     private final TemplateEngine templateEngine;
     private final ReportConfiguration configuration;
+    private final SourceCache sourceCache; // null when every report parses its sources afresh
 
     public TableTestReporter() {
         this(null, IndexDepth.DEFAULT);
@@ -49,10 +62,19 @@ public class TableTestReporter {
 
     /** Reports against a resolved configuration — the form every entry point uses. */
     public TableTestReporter(ReportConfiguration configuration) {
-        this.templateEngine = configuration.templateDirectory() != null
-                ? new TemplateEngine(configuration.templateDirectory())
-                : new TemplateEngine();
+        this(
+                configuration,
+                configuration.templateDirectory() != null
+                        ? new TemplateEngine(configuration.templateDirectory())
+                        : new TemplateEngine(),
+                null);
+    }
+
+    /** Reports with templates and parsed sources a {@link ReporterCache} keeps warm between reports. */
+    TableTestReporter(ReportConfiguration configuration, TemplateEngine templateEngine, SourceCache sourceCache) {
+        this.templateEngine = templateEngine;
         this.configuration = configuration;
+        this.sourceCache = sourceCache;
     }
 
     /**
@@ -75,7 +97,54 @@ public class TableTestReporter {
      * @return the outcome, carrying the number of files generated
      */
     public ReportResult report(List<Path> inDirs, Path outDir) {
-        return report(configuration, inDirs, outDir);
+        return report(configuration, inDirs, outDir, null);
+    }
+
+    /**
+     * Brings a report written by an earlier run up to date, rendering only the pages whose model
+     * changed since that run and deleting the pages it wrote that the report no longer holds. What
+     * each page was rendered from is kept in {@code recordFile}; without one every page renders,
+     * so deleting the record forces a full run. The record does not cover the templates, so a
+     * caller that changes them deletes it. Single-file reports always render, and so does every
+     * page of a format a {@link ReportRenderer} writes, though the pages it no longer holds are
+     * deleted.
+     *
+     * @param inDirs the directories of TableTest YAML output to read, in declared order
+     * @param outDir the directory holding the earlier report
+     * @param recordFile the file recording what each page was rendered from, kept outside outDir
+     * @return the outcome, carrying the number of files written
+     */
+    public ReportResult update(List<Path> inDirs, Path outDir, Path recordFile) {
+        return report(configuration, inDirs, outDir, recordFile);
+    }
+
+    /**
+     * Whether the report an earlier {@link #update} wrote is still whole: every page the records
+     * hold, of the report and of each additional output and variant, is still in its directory.
+     * A caller that skips a run because nothing changed checks this first, so deleted pages are
+     * written again. A single-file report keeps no record and is whole while its directory exists.
+     *
+     * @param outDir the directory holding the earlier report
+     * @param recordFile the record passed to {@link #update}
+     * @return whether every recorded page is in place
+     */
+    public boolean isComplete(Path outDir, Path recordFile) {
+        boolean singleFile = configuration.singleFile();
+        return isComplete(outDir, recordFile, singleFile)
+                && configuration.additionalOutputs().stream()
+                        .allMatch(output -> isComplete(
+                                output.outputDirectory(),
+                                recordFileFor(recordFile, output.format().formatName()),
+                                false))
+                && configuration.variants().stream()
+                        .allMatch(variant -> isComplete(
+                                variant.outputDirectory(),
+                                recordFileFor(recordFile, "variant-" + variant.name()),
+                                singleFile));
+    }
+
+    private static boolean isComplete(Path outDir, Path recordFile, boolean singleFile) {
+        return singleFile ? Files.isDirectory(outDir) : PageDigests.pagesExist(recordFile, outDir);
     }
 
     public ReportResult report(Format format, Path inDir, Path outDir) {
@@ -94,105 +163,379 @@ public class TableTestReporter {
                         configuration.indexDepth(),
                         singleFile,
                         specMetadata,
-                        configuration.publishSelection()),
+                        configuration.publishSelection(),
+                        configuration.generatedAt(),
+                        configuration.rowsPerPage(),
+                        List.of(),
+                        List.of(),
+                        configuration.compressSections(),
+                        configuration.virtualizeAbove()),
                 List.of(inDir),
-                outDir);
+                outDir,
+                null);
     }
 
     /**
      * Generates the report. The publish selection decides which pages the report holds, and spec
      * metadata (title, intro, feature order/titles) curates those that remain, both applied on top
-     * of the built tree before rendering. In single-file mode the whole tree is assembled into one
-     * self-contained document (currently HTML only); otherwise one file is written per node.
+     * of the built tree in one {@link ReportCuration} walk that also rolls up each page's status
+     * for rendering. The tree is loaded once and rendered in the configured format, in each
+     * {@link ReportConfiguration#additionalOutputs() additional} one and as each
+     * {@link ReportConfiguration#variants() variant}, which curates the same tree its own way.
+     * Each output renders on a virtual thread of its own into its own directory and, when
+     * updating, keeps its own record beside {@code recordFile}.
+     *
+     * @throws IllegalArgumentException if two outputs share a directory or one lies inside another's
      */
-    private ReportResult report(ReportConfiguration config, List<Path> inDirs, Path outDir) {
-        ReportNode built = ReportTree.process(inDirs);
+    private ReportResult report(ReportConfiguration config, List<Path> inDirs, Path outDir, Path recordFile) {
+        requireSeparateDirectories(config, outDir);
+        ReportNode built = ReportTree.process(inDirs, sourceCache);
         if (built == null) {
             return ReportResult.empty(inDirs);
         }
-        Format format = config.format();
-        ReportNode tree =
-                config.specMetadata().applyTo(config.publishSelection().applyTo(built));
-        GeneratedAt generatedAt = GeneratedAt.now();
-        if (config.singleFile()) {
-            return reportSingleFile(format, tree, generatedAt, outDir);
+        CuratedReport tree = ReportCuration.apply(built, config.publishSelection(), config.specMetadata());
+        GeneratedAt generatedAt = GeneratedAt.fixedOrNow(config.generatedAt());
+        if (config.additionalOutputs().isEmpty() && config.variants().isEmpty()) {
+            return ReportResult.success(
+                    render(config, tree, config.format(), config.singleFile(), generatedAt, outDir, recordFile));
+        }
+        List<Callable<Integer>> outputs = new ArrayList<>();
+        outputs.add(() -> render(config, tree, config.format(), config.singleFile(), generatedAt, outDir, recordFile));
+        for (FormatOutput output : config.additionalOutputs()) {
+            Path outputRecord = recordFile != null ? recordFileFor(recordFile, output.format().formatName()) : null;
+            outputs.add(() -> render(
+                    config, tree, output.format(), false, generatedAt, output.outputDirectory(), outputRecord));
+        }
+        for (ReportVariant variant : config.variants()) {
+            Path variantRecord = recordFile != null ? recordFileFor(recordFile, "variant-" + variant.name()) : null;
+            outputs.add(() -> render(
+                    config,
+                    ReportCuration.apply(built, variant.publishSelection(), variant.specMetadata()),
+                    config.format(),
+                    config.singleFile(),
+                    generatedAt,
+                    variant.outputDirectory(),
+                    variantRecord));
+        }
+        return ReportResult.success(renderConcurrently(outputs));
+    }
+
+    /**
+     * Renders the curated tree in one format. In single-file mode the whole tree is assembled into
+     * one self-contained document (currently HTML only); otherwise one file is written per node, or
+     * with a record file, one per node whose model changed, and a table of more rows than
+     * {@link ReportConfiguration#rowsPerPage()} allows as several {@link TablePage pages}. Pages
+     * are written by a {@link PageWriter} while the next ones render. A format a
+     * {@link ReportRenderer} writes bypasses the templates, each page streamed by the renderer.
+     *
+     * @return the number of files written
+     */
+    private int render(
+            ReportConfiguration config,
+            CuratedReport tree,
+            Format format,
+            boolean singleFile,
+            GeneratedAt generatedAt,
+            Path outDir,
+            Path recordFile) {
+        if (singleFile) {
+            return reportSingleFile(format, tree, generatedAt, outDir, config.compressSections());
+        }
+        if (format instanceof RendererFormat rendered) {
+            return renderWith(config, rendered, tree, generatedAt, outDir, recordFile);
         }
-        int count = report(tree, tree, List.of(), format, generatedAt, outDir);
-        if (format == BuiltInFormat.HTML) {
-            writeContent(
-                    outDir.resolve(SearchIndex.ASSET_NAME), SearchIndex.of(tree).asJavaScript());
+        PageDigests digests = recordFile != null ? PageDigests.load(recordFile, format) : null;
+        int count;
+        OutputDirectories directories = new OutputDirectories();
+        PageWriter writer = new PageWriter(directories);
+        PageModels models = new PageModels(
+                tree,
+                IndexContents.of(tree, config.indexDepth()),
+                new NavFragments(tree, format == BuiltInFormat.HTML ? templateEngine::renderSidebarTree : null));
+        try (writer) {
+            count = report(config, tree.root(), models, List.of(), format, generatedAt, outDir, digests, writer);
         }
-        return ReportResult.success(count);
+        logWriteMetrics(writer.metrics());
+        if (digests != null) {
+            deletePages(outDir, digests.removedPages());
+        }
+        Path searchIndexAsset = outDir.resolve(SearchIndex.ASSET_NAME);
+        if (format == BuiltInFormat.HTML
+                && (digests == null || digests.anyChanged() || !Files.exists(searchIndexAsset))) {
+            writeSearchIndex(directories, searchIndexAsset, SearchIndex.of(tree, config.rowsPerPage()));
+        }
+        if (digests != null) {
+            digests.save(recordFile);
+        }
+        return count;
+    }
+
+    /**
+     * Refuses outputs whose directories are the same or nested: the outputs are written at the
+     * same time, and each deletes the pages its own record no longer holds, so one would overwrite
+     * or delete the pages of the other.
+     */
+    private static void requireSeparateDirectories(ReportConfiguration config, Path outDir) {
+        Map<Path, String> directories = new LinkedHashMap<>();
+        directories.put(outDir.toAbsolutePath().normalize(), "the report");
+        for (FormatOutput output : config.additionalOutputs()) {
+            requireSeparateDirectory(
+                    directories,
+                    "additional output '" + output.format().formatName() + "'",
+                    output.outputDirectory());
+        }
+        for (ReportVariant variant : config.variants()) {
+            requireSeparateDirectory(directories, "variant '" + variant.name() + "'", variant.outputDirectory());
+        }
+    }
+
+    private static void requireSeparateDirectory(Map<Path, String> directories, String output, Path directory) {
+        Path normalized = directory.toAbsolutePath().normalize();
+        directories.forEach((taken, owner) -> {
+            if (normalized.startsWith(taken) || taken.startsWith(normalized)) {
+                throw new IllegalArgumentException("Invalid directory '" + directory + "' of " + output
+                        + ": expected a directory apart from that of " + owner + ", '" + taken + "'");
+            }
+        });
+        directories.put(normalized, output);
+    }
+
+    /** The record an additional format or a variant keeps its pages in, beside the report's own record. */
+    static Path recordFileFor(Path recordFile, String output) {
+        return recordFile.resolveSibling(recordFile.getFileName() + "." + output);
     }
 
-    private ReportResult reportSingleFile(Format format, ReportNode tree, GeneratedAt generatedAt, Path outDir) {
+    /**
+     * Renders each output on a virtual thread and waits for all of them, so a failing output never
+     * leaves another writing behind it.
+     *
+     * @return the number of files the outputs wrote together
+     */
+    private static int renderConcurrently(List<Callable<Integer>> outputs) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> rendering =
+                    outputs.stream().map(executor::submit).toList();
+            int count = 0;
+            for (Future<Integer> output : rendering) {
+                count += output.get();
+            }
+            return count;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                throw failure;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("Failed to render report", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while rendering report", e);
+        }
+    }
+
+    private int reportSingleFile(
+            Format format, CuratedReport tree, GeneratedAt generatedAt, Path outDir, boolean compressSections) {
         if (format != BuiltInFormat.HTML) {
             throw new IllegalArgumentException(
                     "Single-file mode is currently supported only for the html format, not " + format.formatName());
         }
-        String content = templateEngine.renderSingle(SingleFileModel.of(tree, generatedAt));
+        String content = templateEngine.renderSingle(SingleFileModel.of(
+                tree, generatedAt, compressSections ? templateEngine::renderSingleTable : null));
         writeContent(outDir.resolve("index" + format.extension()), content);
-        return ReportResult.success(1);
+        return 1;
     }
 
     private int report(
+            ReportConfiguration config,
             ReportNode node,
-            ReportNode root,
+            PageModels models,
             List<ReportNode> ancestors,
             Format format,
             GeneratedAt generatedAt,
-            Path outDir) {
+            Path outDir,
+            PageDigests digests,
+            PageWriter writer) {
         Path relativeOutPath = Path.of("./" + node.outPath());
 
         return switch (node) {
             case IndexNode index -> {
-                Map<String, Object> context = createIndexContext(index, relativeOutPath, root, ancestors, generatedAt);
+                Map<String, Object> context = createIndexContext(index, models, ancestors, generatedAt);
 
-                Path outPath = outDir.resolve(relativeOutPath).resolve("index" + format.extension());
-                String content = templateEngine.renderIndex(format, context);
-                writeContent(outPath, content);
+                Path page = relativeOutPath.resolve("index" + format.extension());
+                int written = 0;
+                if (needsWriting(digests, outDir, page, context)) {
+                    writer.write(outDir.resolve(page), templateEngine.renderIndex(format, context));
+                    written = 1;
+                }
 
                 List<ReportNode> childAncestors = append(ancestors, index);
                 int childCount = index.contents().stream()
-                        .mapToInt(child -> report(child, root, childAncestors, format, generatedAt, outDir))
+                        .mapToInt(child -> report(
+                                config, child, models, childAncestors, format, generatedAt, outDir, digests, writer))
                         .sum();
-                yield 1 + childCount;
+                yield written + childCount;
             }
             case TableNode table -> {
-                Map<String, Object> context = createTableContext(table, root, ancestors, generatedAt);
+                Map<String, Object> tableContext = createTableContext(table, models, ancestors, generatedAt);
+                String fileName = relativeOutPath.getFileName().toString();
+
+                int written = 0;
+                for (TablePage tablePage : TablePage.of(table, config.rowsPerPage())) {
+                    Map<String, Object> context = virtualized(
+                            config, tablePage.context(tableContext, fileName, format.extension()), tablePage);
+                    Path page = Path.of(relativeOutPath + tablePage.suffix() + format.extension());
+                    if (needsWriting(digests, outDir, page, context)) {
+                        writer.write(outDir.resolve(page), templateEngine.renderTable(format, context));
+                        written++;
+                    }
+                }
+                yield written;
+            }
+        };
+    }
 
-                Path outPath = outDir.resolve(relativeOutPath + format.extension());
-                String content = templateEngine.renderTable(format, context);
-                writeContent(outPath, content);
-                yield 1;
+    /**
+     * Streams every page of the tree through the format's renderer, with no template context. What
+     * a renderer writes is its own, so every page renders; with a record file, the pages are
+     * recorded so that those the report no longer holds are deleted when it is updated.
+     */
+    private int renderWith(
+            ReportConfiguration config,
+            RendererFormat format,
+            CuratedReport tree,
+            GeneratedAt generatedAt,
+            Path outDir,
+            Path recordFile) {
+        PageDigests digests = recordFile != null ? PageDigests.load(recordFile, format) : null;
+        int count;
+        PageWriter writer = new PageWriter(new OutputDirectories());
+        try (writer) {
+            count = renderWith(
+                    config,
+                    format.renderer(),
+                    tree.root(),
+                    tree,
+                    List.of(),
+                    generatedAt.instant(),
+                    outDir,
+                    digests,
+                    writer);
+        }
+        logWriteMetrics(writer.metrics());
+        if (digests != null) {
+            deletePages(outDir, digests.removedPages());
+            digests.save(recordFile);
+        }
+        return count;
+    }
+
+    private int renderWith(
+            ReportConfiguration config,
+            ReportRenderer renderer,
+            ReportNode node,
+            CuratedReport tree,
+            List<ReportNode> ancestors,
+            Instant generatedAt,
+            Path outDir,
+            PageDigests digests,
+            PageWriter writer) {
+        Path relativeOutPath = Path.of("./" + node.outPath());
+        ReportStatus status = tree.status(node);
+
+        return switch (node) {
+            case IndexNode index -> {
+                ReportRenderer.Page page = new ReportRenderer.Page(
+                        ancestors, status.totalScenarios(), status.passedScenarios(), 0, 0, generatedAt);
+                Path indexPage = relativeOutPath.resolve("index" + renderer.extension());
+                recordRendered(digests, indexPage);
+                writer.stream(outDir.resolve(indexPage), out -> renderer.renderIndex(index, page, out));
+
+                List<ReportNode> childAncestors = append(ancestors, index);
+                int childCount = index.contents().stream()
+                        .mapToInt(child -> renderWith(
+                                config,
+                                renderer,
+                                child,
+                                tree,
+                                childAncestors,
+                                generatedAt,
+                                outDir,
+                                digests,
+                                writer))
+                        .sum();
+                yield 1 + childCount;
+            }
+            case TableNode table -> {
+                List<TablePage> tablePages = TablePage.of(table, config.rowsPerPage());
+                for (TablePage tablePage : tablePages) {
+                    ReportRenderer.Page page = new ReportRenderer.Page(
+                            ancestors,
+                            status.totalScenarios(),
+                            status.passedScenarios(),
+                            tablePage.fromRow(),
+                            tablePage.toRow(),
+                            generatedAt);
+                    Path tableFile = Path.of(relativeOutPath + tablePage.suffix() + renderer.extension());
+                    recordRendered(digests, tableFile);
+                    writer.stream(outDir.resolve(tableFile), out -> renderer.renderTable(table, page, out));
+                }
+                yield tablePages.size();
             }
         };
     }
 
+    /**
+     * The page's context marked {@code virtualRows} when it holds more rows than
+     * {@link ReportConfiguration#virtualizeAbove()} allows, so the HTML template ships the rows as
+     * data and lays out only those in view.
+     */
+    private static Map<String, Object> virtualized(
+            ReportConfiguration config, Map<String, Object> context, TablePage page) {
+        int limit = config.virtualizeAbove();
+        if (limit <= 0 || page.toRow() - page.fromRow() <= limit) {
+            return context;
+        }
+        Map<String, Object> virtualized = new HashMap<>(context);
+        virtualized.put("virtualRows", true);
+        return virtualized;
+    }
+
+    private static void recordRendered(PageDigests digests, Path page) {
+        if (digests != null) {
+            digests.rendered(page);
+        }
+    }
+
+    /** Whether a page renders: always without a record, otherwise when its model changed or its file is gone. */
+    private static boolean needsWriting(PageDigests digests, Path outDir, Path page, Map<String, Object> context) {
+        if (digests == null) {
+            return true;
+        }
+        boolean changed = digests.changed(page, context);
+        return changed || !Files.exists(outDir.resolve(page));
+    }
+
     private Map<String, Object> createIndexContext(
-            IndexNode index,
-            Path relativeOutPath,
-            ReportNode root,
-            List<ReportNode> ancestors,
-            GeneratedAt generatedAt) {
+            IndexNode index, PageModels models, List<ReportNode> ancestors, GeneratedAt generatedAt) {
         Map<String, Object> context = copyContext(index.resource());
         context.put("name", index.name());
-        context.put("contents", buildContentsForTemplate(index.contents(), relativeOutPath, 1));
-        context.put("status", StatusRollup.of(index).toMap());
+        context.put("contents", models.contents().of(index));
+        context.put("status", models.tree().status(index).toMap());
         context.put("breadcrumbs", buildBreadcrumbs(ancestors, index));
-        context.put("nav", buildNav(root, index));
-        context.put("assetRoot", NavLinks.rootPrefix(index, root));
+        context.put("nav", models.nav().of(index, ancestors));
+        context.put("assetRoot", NavLinks.rootPrefix(index, models.tree().root()));
         context.put("generatedAt", generatedAt.toMap());
         return context;
     }
 
     private Map<String, Object> createTableContext(
-            TableNode table, ReportNode root, List<ReportNode> ancestors, GeneratedAt generatedAt) {
+            TableNode table, PageModels models, List<ReportNode> ancestors, GeneratedAt generatedAt) {
         Map<String, Object> context = copyContext(table.resource());
         context.put("name", table.name());
         context.put("breadcrumbs", buildBreadcrumbs(ancestors, table));
-        context.put("nav", buildNav(root, table));
-        context.put("assetRoot", NavLinks.rootPrefix(table, root));
+        context.put("nav", models.nav().of(table, ancestors));
+        context.put("assetRoot", NavLinks.rootPrefix(table, models.tree().root()));
         context.put("generatedAt", generatedAt.toMap());
         context.put("featureDescription", descriptionOf(ancestors));
         return context;
@@ -229,60 +572,56 @@ public class TableTestReporter {
                 .toList();
     }
 
-    private Map<String, Object> buildNav(ReportNode root, ReportNode current) {
-        Path fromDirectory = NavLinks.pageDirectory(current);
-        return NavModel.build(root, current, target -> NavLinks.href(fromDirectory, target));
-    }
-
     private static List<ReportNode> append(List<ReportNode> nodes, ReportNode node) {
         List<ReportNode> result = new ArrayList<>(nodes);
         result.add(node);
         return List.copyOf(result);
     }
 
-    private List<Map<String, Object>> buildContentsForTemplate(
-            List<ReportNode> contents, Path relativeOutPath, int currentDepth) {
-        return contents.stream()
-                .map(child -> {
-                    Map<String, Object> contentMap = new HashMap<>();
-                    contentMap.put("name", child.name());
-                    contentMap.put("path", contentHref(relativeOutPath, child));
-                    contentMap.put("type", child.type());
-                    contentMap.put("status", StatusRollup.of(child).state());
-
-                    if (child.resource() != null) {
-                        Object title = child.resource().get("title");
-                        if (title != null) {
-                            contentMap.put("title", title);
-                        }
-                    }
-
-                    if (child instanceof IndexNode indexChild
-                            && currentDepth < configuration.indexDepth().value()) {
-                        List<Map<String, Object>> nested =
-                                buildContentsForTemplate(indexChild.contents(), relativeOutPath, currentDepth + 1);
-                        if (!nested.isEmpty()) {
-                            contentMap.put("contents", nested);
-                        }
-                    }
+    private static void writeContent(Path outPath, String content) {
+        try {
+            Files.createDirectories(outPath.getParent());
+            Files.writeString(outPath, content);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write output file " + outPath, e);
+        }
+    }
 
-                    return contentMap;
-                })
-                .toList();
+    private static void logWriteMetrics(PageWriter.Metrics metrics) {
+        LOGGER.log(
+                Level.DEBUG,
+                "Wrote {0} page(s), {1} characters, in {2} ms ({3} pages/s); at most {4} of {5} pages waited to be written",
+                metrics.pages(),
+                metrics.characters(),
+                metrics.millis(),
+                metrics.pagesPerSecond(),
+                metrics.peakQueueDepth(),
+                PageWriter.QUEUE_CAPACITY);
     }
 
-    /** Relative link target from an index page to a child entry, with '/' separators on every platform. */
-    private static String contentHref(Path fromDirectory, ReportNode child) {
-        return fromDirectory
-                .relativize(Path.of("./" + child.outPath()))
-                .toString()
-                .replace('\\', '/');
+    /** Deletes the pages an earlier run wrote that the report no longer holds. */
+    private static void deletePages(Path outDir, List<String> pages) {
+        Path root = outDir.toAbsolutePath().normalize();
+        for (String page : pages) {
+            Path outPath = root.resolve(page).normalize();
+            if (!outPath.startsWith(root)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(outPath);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to delete output file " + outPath, e);
+            }
+        }
     }
 
-    private static void writeContent(Path outPath, String content) {
+    /** Streams the index to its asset entry by entry, so a large report never holds it as one string. */
+    private static void writeSearchIndex(OutputDirectories directories, Path outPath, SearchIndex searchIndex) {
         try {
-            Files.createDirectories(outPath.getParent());
-            Files.writeString(outPath, content);
+            directories.create(outPath.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(outPath)) {
+                searchIndex.writeJavaScript(writer);
+            }
         } catch (IOException e) {
             throw new RuntimeException("Failed to write output file " + outPath, e);
         }
@@ -291,4 +630,7 @@ public class TableTestReporter {
     private Map<String, Object> copyContext(Map<String, Object> resource) {
         return new HashMap<>(resource != null ? resource : Collections.emptyMap());
     }
+
+    /** What every page of one multi-file render reads from: the curated tree, its index listings and its sidebar. */
+    private record PageModels(CuratedReport tree, IndexContents contents, NavFragments nav) {}
 }
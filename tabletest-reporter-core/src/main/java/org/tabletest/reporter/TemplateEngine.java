@@ -33,6 +33,7 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -54,6 +55,8 @@ public final class TemplateEngine {
     private final PebbleTemplate markdownIndexTemplate;
     private final PebbleTemplate htmlIndexTemplate;
     private final PebbleTemplate htmlSingleTemplate;
+    private final PebbleTemplate htmlSidebarTemplate;
+    private final PebbleTemplate htmlSingleTableTemplate;
     private final Map<String, PebbleTemplate> customTableTemplates;
     private final Map<String, PebbleTemplate> customIndexTemplates;
 
@@ -88,6 +91,8 @@ public final class TemplateEngine {
         this.markdownIndexTemplate = engine.getTemplate(markdownIndexName);
         this.htmlIndexTemplate = engine.getTemplate(htmlIndexName);
         this.htmlSingleTemplate = engine.getTemplate(htmlSingleName);
+        this.htmlSidebarTemplate = engine.getTemplate("sidebar.html.peb");
+        this.htmlSingleTableTemplate = engine.getTemplate("single-table.html.peb");
     }
 
     public String renderTable(Format format, Map<String, Object> context) {
@@ -106,6 +111,22 @@ public final class TemplateEngine {
         return render(htmlSingleTemplate, context);
     }
 
+    /**
+     * Renders the entries of the HTML sidebar alone, for pages sharing a directory to embed as
+     * their {@code nav.treeHtml} rather than each rendering the tree itself.
+     */
+    String renderSidebarTree(List<Map<String, Object>> tree) {
+        return render(htmlSidebarTemplate, Map.of("tree", tree));
+    }
+
+    /**
+     * Renders the grid and broken scenarios of one table section of a single-file report alone,
+     * for a compressed report to pack into the section.
+     */
+    String renderSingleTable(Map<String, Object> section) {
+        return render(htmlSingleTableTemplate, Map.of("section", section));
+    }
+
     private String render(PebbleTemplate template, Map<String, Object> context) {
         try {
             Writer writer = new StringWriter();
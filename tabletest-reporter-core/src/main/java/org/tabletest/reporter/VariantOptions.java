@@ -0,0 +1,28 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter;
+
+import java.nio.file.Path;
+
+/**
+ * The raw options of one {@link ReportVariant}, as an entry point collected them.
+ *
+ * @param name the variant's name: letters, digits, '.', '_' or '-'
+ * @param configFile the {@code tabletest-reporter.yaml} holding the variant's spec metadata and
+ *     publish selection
+ * @param outputDirectory the directory to write the variant's pages to
+ */
+public record VariantOptions(String name, Path configFile, Path outputDirectory) {}
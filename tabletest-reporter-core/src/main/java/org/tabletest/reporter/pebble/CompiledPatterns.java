@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter.pebble;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * The compiled form of the regular expressions the replacing filters are handed. A template
+ * passes the same pattern and replace pairs for every cell of every table, so each is compiled
+ * once and looked up afterwards. Both caches are bounded: a template that builds its patterns
+ * from cell values cannot grow them without limit, it only loses the benefit of the cache.
+ */
+final class CompiledPatterns {
+
+    private static final int MAX_ENTRIES = 256;
+
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+    private static final Map<List<Map.Entry<String, String>>, MultiReplacer> REPLACERS = new ConcurrentHashMap<>();
+
+    private CompiledPatterns() {}
+
+    static Pattern pattern(String regex) {
+        return cached(PATTERNS, regex, Pattern::compile);
+    }
+
+    /** The replacer for the given pairs of regex and replacement, in the order the map declares them. */
+    static MultiReplacer replacer(Map<?, ?> replacePairs) {
+        List<Map.Entry<String, String>> pairs = new ArrayList<>(replacePairs.size());
+        replacePairs.forEach((regex, replacement) -> pairs.add(Map.entry(regex.toString(), replacement.toString())));
+        return cached(REPLACERS, List.copyOf(pairs), MultiReplacer::compile);
+    }
+
+    private static <K, V> V cached(Map<K, V> cache, K key, Function<K, V> compile) {
+        V compiled = cache.get(key);
+        if (compiled != null) {
+            return compiled;
+        }
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        return cache.computeIfAbsent(key, compile);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter.pebble;
+
+import io.pebbletemplates.pebble.extension.Filter;
+import io.pebbletemplates.pebble.template.EvaluationContext;
+import io.pebbletemplates.pebble.template.PebbleTemplate;
+import org.tabletest.reporter.Json;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pebble filter ({@code value | jsonString}) writing the value's text as a quoted JSON string,
+ * for a template to build a JSON document embedded in a {@code <script>} element. Besides what
+ * JSON requires, it writes {@code </} as {@code <\/} and escapes the {@code <} of {@code <!}, so no
+ * value can close the element or open a comment in it, and escapes the two Unicode line separators,
+ * which older JavaScript parsers reject inside a string. Markup otherwise keeps its angle brackets,
+ * so a string of markup grows by a character per closing tag.
+ */
+public class FilterJsonString implements Filter {
+
+    public static final String NAME = "jsonString";
+    private static final String COMMENT_OPENER_ESCAPE = "\\u003c";
+
+    @Override
+    public Object apply(
+            Object input, Map<String, Object> args, PebbleTemplate self, EvaluationContext context, int lineNumber) {
+        if (input == null) return "null";
+        return jsonString(input.toString());
+    }
+
+    static String jsonString(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 16).append('"');
+        int copied = 0;
+        for (int index = 0; index < value.length(); index++) {
+            String escape = escapeOf(value, index);
+            if (escape != null) {
+                out.append(value, copied, index).append(escape);
+                copied = index + 1;
+            }
+        }
+        return out.append(value, copied, value.length()).append('"').toString();
+    }
+
+    /** The escape of the character at the index: JSON's own, or the one keeping it from ending the script. */
+    private static String escapeOf(String value, int index) {
+        char c = value.charAt(index);
+        if (c == '<' && follows(value, index, '!')) {
+            return COMMENT_OPENER_ESCAPE;
+        }
+        if (c == '/' && index > 0 && value.charAt(index - 1) == '<') {
+            return "\\/";
+        }
+        return Json.escapeOf(c);
+    }
+
+    private static boolean follows(String value, int index, char next) {
+        return index + 1 < value.length() && value.charAt(index + 1) == next;
+    }
+
+    @Override
+    public List<String> getArgumentNames() {
+        return List.of();
+    }
+}
@@ -19,11 +19,8 @@ import io.pebbletemplates.pebble.extension.Filter;
 import io.pebbletemplates.pebble.template.EvaluationContext;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Pebble filter ({@code value | markWhitespace}) producing the HTML for a
@@ -39,59 +36,109 @@ public class FilterMarkWhitespace implements Filter {
 
     public static final String NAME = "markWhitespace";
 
-    private static final String WHITESPACE_RUN = "[ \\t]+";
-    private static final String SPACE_RUN_MARKUP = "<span class=\"sp\">%s</span>";
-    private static final String TRAILING_SPACE_RUN_MARKUP = "<span class=\"sp trailing\">%s</span>";
+    private static final String SPACE_RUN_OPEN = "<span class=\"sp\">";
+    private static final String TRAILING_SPACE_RUN_OPEN = "<span class=\"sp trailing\">";
+    private static final String SPAN_CLOSE = "</span>";
     private static final String TAB_MARKUP = "<span class=\"tab\">\t</span>";
+    private static final int RETAINED_CAPACITY = 8 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
 
     @Override
     public Object apply(
             Object input, Map<String, Object> args, PebbleTemplate self, EvaluationContext context, int lineNumber) {
         if (input == null) return null;
-        return Arrays.stream(input.toString().split("\n", -1))
-                .map(FilterMarkWhitespace::markedLine)
-                .collect(Collectors.joining("\n"));
+        return markWhitespace(input.toString());
     }
 
-    private static String markedLine(String line) {
-        String[] segments = line.splitWithDelimiters(WHITESPACE_RUN, -1);
-        return IntStream.range(0, segments.length)
-                .mapToObj(index -> isWhitespaceRun(index)
-                        ? (isSignificant(segments, index)
-                                ? markedRun(segments[index], touchesLineEnd(segments, index))
-                                : segments[index])
-                        : escapeHtml(segments[index]))
-                .collect(Collectors.joining());
+    /**
+     * Marks the value in one scan. Nothing is copied until the first character that changes: a
+     * value with nothing to escape and no significant run is returned as it is.
+     */
+    static String markWhitespace(String value) {
+        StringBuilder out = null;
+        int length = value.length();
+        int index = 0;
+        while (index < length) {
+            char c = value.charAt(index);
+            if (c == ' ' || c == '\t') {
+                int runEnd = runEnd(value, index);
+                boolean atLineStart = index == 0 || value.charAt(index - 1) == '\n';
+                boolean atLineEnd = runEnd == length || value.charAt(runEnd) == '\n';
+                if (atLineStart || atLineEnd || runEnd - index >= 2 || c == '\t') {
+                    out = startedBuffer(out, value, index);
+                    appendMarkedRun(out, value, index, runEnd, atLineEnd);
+                } else if (out != null) {
+                    out.append(c);
+                }
+                index = runEnd;
+                continue;
+            }
+            String escaped = escapeHtml(c);
+            if (escaped != null) {
+                out = startedBuffer(out, value, index);
+                out.append(escaped);
+            } else if (out != null) {
+                out.append(c);
+            }
+            index++;
+        }
+        return out == null ? value : finished(out);
     }
 
-    private static boolean isWhitespaceRun(int index) {
-        return index % 2 == 1;
+    private static int runEnd(String value, int index) {
+        while (index < value.length() && (value.charAt(index) == ' ' || value.charAt(index) == '\t')) {
+            index++;
+        }
+        return index;
     }
 
-    private static boolean isSignificant(String[] segments, int index) {
-        String run = segments[index];
-        boolean touchesLineStart = index == 1 && segments[0].isEmpty();
-        return run.contains("\t") || run.length() >= 2 || touchesLineStart || touchesLineEnd(segments, index);
+    /** A significant run as markup: each tab in a span of its own, each stretch of spaces between them in one. */
+    private static void appendMarkedRun(StringBuilder out, String value, int start, int end, boolean atLineEnd) {
+        int index = start;
+        while (index < end) {
+            if (value.charAt(index) == '\t') {
+                out.append(TAB_MARKUP);
+                index++;
+                continue;
+            }
+            int spacesEnd = index;
+            while (spacesEnd < end && value.charAt(spacesEnd) == ' ') {
+                spacesEnd++;
+            }
+            out.append(atLineEnd ? TRAILING_SPACE_RUN_OPEN : SPACE_RUN_OPEN)
+                    .append(value, index, spacesEnd)
+                    .append(SPAN_CLOSE);
+            index = spacesEnd;
+        }
     }
 
-    private static boolean touchesLineEnd(String[] segments, int index) {
-        return index == segments.length - 2 && segments[segments.length - 1].isEmpty();
+    private static String escapeHtml(char c) {
+        return switch (c) {
+            case '&' -> "&amp;";
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '"' -> "&quot;";
+            case '\'' -> "&#39;";
+            default -> null;
+        };
     }
 
-    private static String markedRun(String run, boolean atLineEnd) {
-        String spaceMarkup = atLineEnd ? TRAILING_SPACE_RUN_MARKUP : SPACE_RUN_MARKUP;
-        return Arrays.stream(run.splitWithDelimiters("\\t", -1))
-                .filter(part -> !part.isEmpty())
-                .map(part -> part.startsWith("\t") ? TAB_MARKUP : spaceMarkup.formatted(part))
-                .collect(Collectors.joining());
+    private static StringBuilder startedBuffer(StringBuilder out, String value, int copyUpTo) {
+        if (out != null) {
+            return out;
+        }
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        return buffer.append(value, 0, copyUpTo);
     }
 
-    private static String escapeHtml(String text) {
-        return text.replace("&", "&amp;")
-                .replace("<", "&lt;")
-                .replace(">", "&gt;")
-                .replace("\"", "&quot;")
-                .replace("'", "&#39;");
+    private static String finished(StringBuilder out) {
+        String marked = out.toString();
+        if (out.capacity() > RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return marked;
     }
 
     @Override
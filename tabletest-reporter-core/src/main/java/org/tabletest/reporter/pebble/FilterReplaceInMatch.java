@@ -20,13 +20,21 @@ import io.pebbletemplates.pebble.extension.Filter;
 import io.pebbletemplates.pebble.template.EvaluationContext;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.tabletest.reporter.pebble.PebbleExtension.requireNotNull;
 
+/**
+ * Replaces the pairs of {@code replace_pairs} only inside the matches of {@code pattern}, passing
+ * the text between matches through with {@code passthrough_marker} around it. Inside a match the
+ * pairs replace as {@link FilterReplaceAll} does, in one scan that never matches replaced text
+ * again, which can differ from applying the pairs one after the other as releases up to 1.4 did.
+ * Text between matches that the pattern matches on its own, such as the lone space of {@code a| |b}
+ * against {@code ^ +}, is encoded as well, as it was when each fragment was matched separately.
+ */
 public class FilterReplaceInMatch implements Filter {
 
     public static final String NAME = "replaceInMatch";
@@ -42,23 +50,38 @@ public class FilterReplaceInMatch implements Filter {
         requireNotNull(args, PATTERN, lineNumber, self);
         requireNotNull(args, REPLACE_PAIRS, lineNumber, self);
 
-        String pattern = (String) args.get(PATTERN);
-        Map<?, ?> replacePairs = (Map<?, ?>) args.get(REPLACE_PAIRS);
+        String data = input.toString();
+        Pattern pattern = CompiledPatterns.pattern((String) args.get(PATTERN));
+        Matcher matcher = pattern.matcher(data);
+        Matcher fragment = pattern.matcher(data);
+        MultiReplacer encoder = CompiledPatterns.replacer((Map<?, ?>) args.get(REPLACE_PAIRS));
         String passthroughMarker = (String) args.getOrDefault(PASSTHROUGH_MARKER, "");
 
-        return Arrays.stream(input.toString().splitWithDelimiters(pattern, -1))
-                .filter(it -> !it.isEmpty())
-                .map(it -> it.matches(pattern)
-                        ? encodeCharacters(it, replacePairs)
-                        : passthroughMarker + it + passthroughMarker)
-                .collect(Collectors.joining());
+        StringBuilder out = new StringBuilder(data.length() + 16);
+        int passedThrough = 0;
+        while (matcher.find()) {
+            appendBetween(out, data, passedThrough, matcher.start(), fragment, encoder, passthroughMarker);
+            encoder.appendReplaced(out, data, matcher.start(), matcher.end());
+            passedThrough = matcher.end();
+        }
+        appendBetween(out, data, passedThrough, data.length(), fragment, encoder, passthroughMarker);
+        return out.toString();
     }
 
-    private static String encodeCharacters(String data, Map<?, ?> replacePairs) {
-        for (Map.Entry<?, ?> entry : replacePairs.entrySet()) {
-            data = data.replaceAll(entry.getKey().toString(), entry.getValue().toString());
+    private static void appendBetween(
+            StringBuilder out,
+            String data,
+            int start,
+            int end,
+            Matcher fragment,
+            MultiReplacer encoder,
+            String marker) {
+        if (start == end) return;
+        if (fragment.region(start, end).matches()) {
+            encoder.appendReplaced(out, data, start, end);
+        } else {
+            out.append(marker).append(data, start, end).append(marker);
         }
-        return data;
     }
 
     @Override
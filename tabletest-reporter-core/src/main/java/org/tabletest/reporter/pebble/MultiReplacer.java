@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter.pebble;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replaces every match of several regexes in one scan of the text. The regexes are joined into a
+ * single alternation, each alternative in a group of its own, so a match tells which pair it
+ * belongs to and takes that pair's replacement. Where two regexes could match at the same place,
+ * the one declared first wins, and replaced text is never scanned again by a later pair.
+ * <p>
+ * A replacement is read the way {@link Matcher#replaceAll(String)} reads it. Where that reading
+ * needs the regex's own groups — a {@code $} group reference in a replacement, or a regex with
+ * capturing groups of its own — the pairs are applied one after the other instead, each with its
+ * compiled pattern, which is exactly the replacement the filters made before.
+ */
+final class MultiReplacer {
+
+    private final Pattern alternation;
+    private final String[] replacements;
+    private final List<Pattern> patterns;
+    private final List<String> rawReplacements;
+
+    private MultiReplacer(
+            Pattern alternation, String[] replacements, List<Pattern> patterns, List<String> rawReplacements) {
+        this.alternation = alternation;
+        this.replacements = replacements;
+        this.patterns = patterns;
+        this.rawReplacements = rawReplacements;
+    }
+
+    static MultiReplacer compile(List<Map.Entry<String, String>> pairs) {
+        List<Pattern> patterns =
+                pairs.stream().map(pair -> CompiledPatterns.pattern(pair.getKey())).toList();
+        List<String> rawReplacements = pairs.stream().map(Map.Entry::getValue).toList();
+        boolean singlePass = !pairs.isEmpty()
+                && patterns.stream().allMatch(pattern -> pattern.matcher("").groupCount() == 0)
+                && rawReplacements.stream().allMatch(MultiReplacer::isLiteral);
+        if (!singlePass) {
+            return new MultiReplacer(null, null, patterns, rawReplacements);
+        }
+        StringBuilder alternation = new StringBuilder();
+        for (Map.Entry<String, String> pair : pairs) {
+            if (!alternation.isEmpty()) {
+                alternation.append('|');
+            }
+            alternation.append("((?:").append(pair.getKey()).append("))");
+        }
+        String[] replacements =
+                rawReplacements.stream().map(MultiReplacer::unescaped).toArray(String[]::new);
+        return new MultiReplacer(Pattern.compile(alternation.toString()), replacements, patterns, rawReplacements);
+    }
+
+    String replace(String text) {
+        if (alternation == null) {
+            return replaceInTurn(text);
+        }
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        appendReplaced(out, text, 0, text.length());
+        return out.toString();
+    }
+
+    /** Appends the given region of the text to {@code out} with every match replaced. */
+    void appendReplaced(StringBuilder out, CharSequence text, int start, int end) {
+        if (alternation == null) {
+            out.append(replaceInTurn(text.subSequence(start, end).toString()));
+            return;
+        }
+        Matcher matcher = alternation.matcher(text).region(start, end);
+        int copied = start;
+        while (matcher.find()) {
+            out.append(text, copied, matcher.start()).append(replacements[matchedPair(matcher)]);
+            copied = matcher.end();
+        }
+        out.append(text, copied, end);
+    }
+
+    private int matchedPair(Matcher matcher) {
+        for (int pair = 0; pair < replacements.length; pair++) {
+            if (matcher.start(pair + 1) != -1) {
+                return pair;
+            }
+        }
+        throw new IllegalStateException("No pair matched " + matcher.group());
+    }
+
+    private String replaceInTurn(String text) {
+        for (int pair = 0; pair < patterns.size(); pair++) {
+            text = patterns.get(pair).matcher(text).replaceAll(rawReplacements.get(pair));
+        }
+        return text;
+    }
+
+    /** True when a replacement refers to no group, so it stands for the same text at every match. */
+    private static boolean isLiteral(String replacement) {
+        for (int i = 0; i < replacement.length(); i++) {
+            char c = replacement.charAt(i);
+            if (c == '$') {
+                return false;
+            }
+            if (c == '\\' && ++i == replacement.length()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The text a literal replacement stands for: each backslash escape resolved to the character it escapes. */
+    private static String unescaped(String replacement) {
+        if (replacement.indexOf('\\') < 0) {
+            return replacement;
+        }
+        StringBuilder text = new StringBuilder(replacement.length());
+        for (int i = 0; i < replacement.length(); i++) {
+            char c = replacement.charAt(i);
+            text.append(c == '\\' ? replacement.charAt(++i) : c);
+        }
+        return text.toString();
+    }
+}
@@ -33,7 +33,8 @@ public class PebbleExtension extends AbstractExtension {
                 FilterReplaceAll.NAME, new FilterReplaceAll(),
                 FilterReplaceInMatch.NAME, new FilterReplaceInMatch(),
                 FilterMarkWhitespace.NAME, new FilterMarkWhitespace(),
-                FilterParagraphs.NAME, new FilterParagraphs());
+                FilterParagraphs.NAME, new FilterParagraphs(),
+                FilterJsonString.NAME, new FilterJsonString());
     }
 
     @Override
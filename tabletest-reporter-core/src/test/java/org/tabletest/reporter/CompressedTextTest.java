@@ -0,0 +1,40 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Unpublished: internal encoding of a compressed single-file report, not a user-facing rule.
+class CompressedTextTest {
+
+    @Test
+    void decodesBackToTheTextWritten() throws IOException {
+        String text = "<td class=\"cell\">Grüße</td>\n".repeat(1_000);
+
+        String packed = CompressedText.of(text);
+
+        assertThat(packed).matches("[A-Za-z0-9+/=]+").hasSizeLessThan(text.length() / 10);
+        assertThat(unpack(packed)).isEqualTo(text);
+    }
+
+    @Test
+    void packsTheSameTextTheSameWay() {
+        assertThat(CompressedText.of(out -> out.write("2004 | Yes")))
+                .isEqualTo(CompressedText.of("2004 | Yes"));
+    }
+
+    // --- helpers ---
+
+    private static String unpack(String packed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(packed)))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
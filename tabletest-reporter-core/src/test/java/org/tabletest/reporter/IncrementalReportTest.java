@@ -0,0 +1,144 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.tabletest.reporter.BuiltInFormat.MARKDOWN;
+
+// Unpublished: end-to-end wiring of the page record, not a user-facing rule.
+class IncrementalReportTest {
+
+    private static final String UNTOUCHED = "untouched since the last run";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void aRunWithoutARecordWritesEveryPage() throws IOException {
+        Path inDir = testOutput();
+        Path outDir = tempDir.resolve("out");
+
+        ReportResult full = reporter().report(List.of(inDir), tempDir.resolve("out-full"));
+        ReportResult update = reporter().update(List.of(inDir), outDir, record());
+
+        assertThat(update.filesGenerated()).isEqualTo(full.filesGenerated());
+        assertThat(record()).exists();
+    }
+
+    @Test
+    void unchangedOutputRewritesNoPage() throws IOException {
+        Path inDir = testOutput();
+        Path outDir = tempDir.resolve("out");
+        reporter().update(List.of(inDir), outDir, record());
+        Files.writeString(outDir.resolve("parser-test/grammar.md"), UNTOUCHED);
+
+        ReportResult result = reporter().update(List.of(inDir), outDir, record());
+
+        assertThat(result.filesGenerated()).isZero();
+        assertThat(outDir.resolve("parser-test/grammar.md")).hasContent(UNTOUCHED);
+    }
+
+    @Test
+    void aChangedRowRewritesOnlyTheTableItIsIn() throws IOException {
+        Path inDir = testOutput();
+        Path outDir = tempDir.resolve("out");
+        reporter().update(List.of(inDir), outDir, record());
+        Files.writeString(outDir.resolve("slugify-test/slugify.md"), UNTOUCHED);
+
+        writeClass(inDir, "org.example.ParserTest", "parser-test", "Parser Test", "grammar", "changed");
+        ReportResult result = reporter().update(List.of(inDir), outDir, record());
+
+        assertThat(result.filesGenerated()).isEqualTo(1);
+        assertThat(Files.readString(outDir.resolve("parser-test/grammar.md"))).contains("changed");
+        assertThat(outDir.resolve("slugify-test/slugify.md")).hasContent(UNTOUCHED);
+    }
+
+    @Test
+    void aPageNoLongerInTheReportIsDeleted() throws IOException {
+        Path inDir = testOutput();
+        Path outDir = tempDir.resolve("out");
+        reporter().update(List.of(inDir), outDir, record());
+
+        deleteRecursively(inDir.resolve("org.example.SlugifyTest"));
+        reporter().update(List.of(inDir), outDir, record());
+
+        assertThat(outDir.resolve("slugify-test/slugify.md")).doesNotExist();
+        assertThat(outDir.resolve("parser-test/grammar.md")).exists();
+    }
+
+    @Test
+    void aDeletedPageIsWrittenAgain() throws IOException {
+        Path inDir = testOutput();
+        Path outDir = tempDir.resolve("out");
+        reporter().update(List.of(inDir), outDir, record());
+        Files.delete(outDir.resolve("parser-test/grammar.md"));
+
+        ReportResult result = reporter().update(List.of(inDir), outDir, record());
+
+        assertThat(result.filesGenerated()).isEqualTo(1);
+        assertThat(outDir.resolve("parser-test/grammar.md")).exists();
+    }
+
+    // --- helpers ---
+
+    private static TableTestReporter reporter() {
+        return new TableTestReporter(new ReportConfiguration(
+                MARKDOWN,
+                null,
+                IndexDepth.DEFAULT,
+                false,
+                SpecMetadata.EMPTY,
+                PublishSelection.EMPTY));
+    }
+
+    private Path record() {
+        return tempDir.resolve("state").resolve("pages.digest");
+    }
+
+    /** Test output holding two classes of one table each. */
+    private Path testOutput() throws IOException {
+        Path inDir = Files.createDirectories(tempDir.resolve("junit-jupiter"));
+        writeClass(inDir, "org.example.ParserTest", "parser-test", "Parser Test", "grammar", "x");
+        writeClass(inDir, "org.example.SlugifyTest", "slugify-test", "Slugify Test", "slugify", "x");
+        return inDir;
+    }
+
+    private static void writeClass(
+            Path inDir, String className, String slug, String title, String tableSlug, String rowValue)
+            throws IOException {
+        Path classDir = Files.createDirectories(inDir.resolve(className));
+        Files.writeString(classDir.resolve("TABLETEST-" + slug + ".yaml"), """
+                "className": "%s"
+                "slug": "%s"
+                "title": "%s"
+                "tableTests":
+                  - "path": "rule(String)/TABLETEST-%s.yaml"
+                    "methodName": "rule"
+                    "slug": "%s"
+                """.formatted(className, slug, title, tableSlug, tableSlug));
+        Path tableDir = Files.createDirectories(classDir.resolve("rule(String)"));
+        Files.writeString(tableDir.resolve("TABLETEST-" + tableSlug + ".yaml"), """
+                "title": "%s"
+                "headers":
+                  - "value": "Input"
+                  - "value": "Valid?"
+                "rows":
+                    - - "value": "%s"
+                      - "value": "true"
+                """.formatted(title, rowValue));
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(java.util.Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
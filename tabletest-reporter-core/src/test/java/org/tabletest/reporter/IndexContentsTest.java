@@ -0,0 +1,73 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Unpublished: internal index page model, not a user-facing rule.
+class IndexContentsTest {
+
+    @Test
+    void linksEveryEntryRelativeToTheIndexListingIt() {
+        IndexNode root = sampleReport();
+        IndexContents contents = IndexContents.of(CuratedReport.of(root), IndexDepth.INFINITE);
+
+        List<Map<String, Object>> listing = contents.of(root);
+
+        assertThat(listing).extracting(entry -> entry.get("path")).containsExactly("parsing");
+        assertThat(nested(listing.get(0))).extracting(entry -> entry.get("path")).containsExactly("parsing/maps");
+        assertThat(nested(nested(listing.get(0)).get(0)))
+                .extracting(entry -> entry.get("path"))
+                .containsExactly("parsing/maps/keys");
+        assertThat(contents.of((IndexNode) root.contents().get(0)))
+                .extracting(entry -> entry.get("path"))
+                .containsExactly("maps");
+    }
+
+    @Test
+    void listsNoDeeperThanTheIndexDepth() {
+        IndexNode root = sampleReport();
+
+        List<Map<String, Object>> listing =
+                IndexContents.of(CuratedReport.of(root), new IndexDepth(2)).of(root);
+
+        Map<String, Object> maps = nested(listing.get(0)).get(0);
+        assertThat(maps).containsEntry("name", "maps").doesNotContainKey("contents");
+    }
+
+    @Test
+    void readsAsThePlainMapEachEntryStandsFor() {
+        IndexNode root = sampleReport();
+
+        Map<String, Object> parsing =
+                IndexContents.of(CuratedReport.of(root), new IndexDepth(1)).of(root).get(0);
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("name", "parsing");
+        expected.put("path", "parsing");
+        expected.put("type", "index");
+        expected.put("status", "neutral");
+        expected.put("title", "Parsing");
+        assertThat(parsing).isEqualTo(expected);
+        assertThat(parsing).hasToString(expected.toString());
+    }
+
+    // --- helpers ---
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> nested(Map<String, Object> entry) {
+        return (List<Map<String, Object>>) entry.get("contents");
+    }
+
+    /** parsing/maps/keys: a feature holding a feature holding one table. */
+    private static IndexNode sampleReport() {
+        TableNode keys = new TableNode("keys", "/parsing/maps/keys", Map.of("title", "Keys"));
+        IndexNode maps = new IndexNode("maps", "/parsing/maps", null, List.of(keys));
+        IndexNode parsing = new IndexNode("parsing", "/parsing", Map.of("title", "Parsing"), List.of(maps));
+        return new IndexNode("junit", "", null, List.of(parsing));
+    }
+}
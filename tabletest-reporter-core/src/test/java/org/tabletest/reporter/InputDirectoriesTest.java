@@ -6,6 +6,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -50,6 +51,27 @@ class InputDirectoriesTest {
         assertThat(inputs.present()).containsExactly(second, first);
     }
 
+    @Test
+    void keepsDeclaredOrderAcrossAReactorSizedList() throws IOException {
+        List<Path> configured = new ArrayList<>();
+        List<Path> built = new ArrayList<>();
+        List<Path> notBuilt = new ArrayList<>();
+        for (int module = 0; module < 100; module++) {
+            Path dir = projectDir.resolve("module-" + module);
+            configured.add(dir);
+            if (module % 3 == 0) {
+                notBuilt.add(dir);
+            } else {
+                built.add(Files.createDirectories(dir));
+            }
+        }
+
+        InputDirectories inputs = InputDirectories.resolve(configured, projectDir);
+
+        assertThat(inputs.present()).containsExactlyElementsOf(built);
+        assertThat(inputs.missing()).containsExactlyElementsOf(notBuilt);
+    }
+
     @Test
     void everyDirectoryMissingLeavesNothingToReportFrom() {
         InputDirectories inputs =
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Test;
 import org.tabletest.junit.Scenario;
 import org.tabletest.junit.TableTest;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +80,28 @@ class JsonTest {
         assertThat(Json.encode(List.of(entry))).isEqualTo("[{\"path\":\"a/b.html\",\"text\":\"content\"}]");
     }
 
+    @Test
+    void writes_to_any_appendable() throws IOException {
+        StringWriter out = new StringWriter();
+        Json.write(out, List.of("a\tb", Map.of("k", 1)));
+        assertThat(out.toString()).isEqualTo("[\"a\\tb\",{\"k\":1}]");
+    }
+
+    @Test
+    void writes_object_members_in_key_order_at_every_level_when_canonical() throws IOException {
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("z", 1);
+        inner.put("a", 2);
+        Map<String, Object> outer = new LinkedHashMap<>();
+        outer.put("nav", List.of(inner));
+        outer.put("href", "index.html");
+
+        StringWriter out = new StringWriter();
+        Json.writeCanonical(out, outer);
+
+        assertThat(out.toString()).isEqualTo("{\"href\":\"index.html\",\"nav\":[{\"a\":2,\"z\":1}]}");
+    }
+
     private static Object coerce(String value) {
         if (value == null) {
             return null;
@@ -0,0 +1,109 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tabletest.reporter.support.GrammarOutput;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.tabletest.reporter.BuiltInFormat.ASCIIDOC;
+import static org.tabletest.reporter.BuiltInFormat.HTML;
+import static org.tabletest.reporter.BuiltInFormat.MARKDOWN;
+
+// Unpublished: end-to-end wiring of additional formats, not a user-facing rule.
+class MultiFormatReportTest {
+
+    private static final Instant GENERATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void eachFormatRendersIntoItsOwnDirectory() throws IOException {
+        Path inDir = GrammarOutput.outputFor(List.of("x"), tempDir);
+        Path html = tempDir.resolve("html");
+
+        ReportResult result = reporter(
+                        new FormatOutput(MARKDOWN, tempDir.resolve("wiki")),
+                        new FormatOutput(ASCIIDOC, tempDir.resolve("antora")))
+                .report(List.of(inDir), html);
+
+        assertThat(html.resolve("parser-test/grammar.html")).exists();
+        assertThat(html.resolve(SearchIndex.ASSET_NAME)).exists();
+        assertThat(tempDir.resolve("wiki/parser-test/grammar.md")).exists();
+        assertThat(tempDir.resolve("antora/parser-test/grammar.adoc")).exists();
+        assertThat(tempDir.resolve("wiki").resolve(SearchIndex.ASSET_NAME)).doesNotExist();
+        assertThat(result.filesGenerated()).isEqualTo(3 * countFiles(tempDir.resolve("wiki")));
+    }
+
+    @Test
+    void eachFormatMatchesAReportOfItsOwn() throws IOException {
+        Path inDir = GrammarOutput.outputFor(List.of("x"), tempDir);
+        reporter(new FormatOutput(MARKDOWN, tempDir.resolve("together")))
+                .report(List.of(inDir), tempDir.resolve("html"));
+
+        new TableTestReporter(configuration(MARKDOWN, List.of())).report(List.of(inDir), tempDir.resolve("alone"));
+
+        assertThat(tempDir.resolve("together/parser-test/grammar.md"))
+                .hasSameTextualContentAs(tempDir.resolve("alone/parser-test/grammar.md"));
+        assertThat(tempDir.resolve("together/index.md")).hasSameTextualContentAs(tempDir.resolve("alone/index.md"));
+    }
+
+    @Test
+    void eachFormatKeepsItsOwnPageRecord() throws IOException {
+        Path inDir = GrammarOutput.outputFor(List.of("x"), tempDir);
+        Path record = tempDir.resolve("state").resolve("pages.digest");
+        TableTestReporter reporter = reporter(new FormatOutput(MARKDOWN, tempDir.resolve("wiki")));
+        reporter.update(List.of(inDir), tempDir.resolve("html"), record);
+
+        ReportResult result = reporter.update(List.of(inDir), tempDir.resolve("html"), record);
+
+        assertThat(result.filesGenerated()).isZero();
+        assertThat(record).exists();
+        assertThat(TableTestReporter.recordFileFor(record, MARKDOWN.formatName())).exists();
+    }
+
+    @Test
+    void refusesAFormatWrittenIntoAnotherOutputsDirectory() {
+        Path inDir = GrammarOutput.outputFor(List.of("x"), tempDir);
+        Path html = tempDir.resolve("html");
+
+        assertThatThrownBy(() -> reporter(new FormatOutput(MARKDOWN, html.resolve("wiki")))
+                        .report(List.of(inDir), html))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("additional output 'markdown'")
+                .hasMessageContaining("the report");
+        assertThatThrownBy(() -> reporter(
+                                new FormatOutput(MARKDOWN, tempDir.resolve("docs")),
+                                new FormatOutput(ASCIIDOC, tempDir.resolve("docs/../docs")))
+                        .report(List.of(inDir), html))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("additional output 'asciidoc'")
+                .hasMessageContaining("additional output 'markdown'");
+        assertThat(html).doesNotExist();
+    }
+
+    // --- helpers ---
+
+    private static TableTestReporter reporter(FormatOutput... additionalOutputs) {
+        return new TableTestReporter(configuration(HTML, List.of(additionalOutputs)));
+    }
+
+    private static ReportConfiguration configuration(Format format, List<FormatOutput> additionalOutputs) {
+        return GrammarOutput.configuration(format)
+                .withGeneratedAt(GENERATED_AT)
+                .withAdditionalOutputs(additionalOutputs);
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (var paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -81,7 +81,12 @@ class MultiModuleReportTest {
 
     private static TableTestReporter markdownReporter() {
         return new TableTestReporter(new ReportConfiguration(
-                MARKDOWN, null, IndexDepth.DEFAULT, false, SpecMetadata.EMPTY, PublishSelection.EMPTY));
+                MARKDOWN,
+                null,
+                IndexDepth.DEFAULT,
+                false,
+                SpecMetadata.EMPTY,
+                PublishSelection.EMPTY));
     }
 
     /** One module's test output directory, holding a single test class with a single table. */
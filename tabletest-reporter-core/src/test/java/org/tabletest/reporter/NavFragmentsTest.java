@@ -0,0 +1,120 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Unpublished: internal reuse of the sidebar between pages, not a user-facing rule.
+class NavFragmentsTest {
+
+    private static final TableNode ITEMS = new TableNode("items", "/orders/items", Map.of());
+    private static final TableNode TOTALS = new TableNode("totals", "/orders/totals", Map.of());
+    private static final IndexNode ORDERS = new IndexNode("orders", "/orders", null, List.of(ITEMS, TOTALS));
+    private static final IndexNode ROOT = new IndexNode("junit", "", null, List.of(ORDERS));
+
+    private final List<List<Map<String, Object>>> rendered = new ArrayList<>();
+
+    @Test
+    void rendersTheEntriesOncePerDirectoryAndMarksEachPageInIt() {
+        NavFragments fragments = new NavFragments(CuratedReport.of(ROOT), this::renderEntries);
+
+        fragments.of(ROOT, List.of());
+        fragments.of(ORDERS, List.of(ROOT));
+        Map<String, Object> items = fragments.of(ITEMS, List.of(ROOT, ORDERS));
+        Map<String, Object> totals = fragments.of(TOTALS, List.of(ROOT, ORDERS));
+
+        // One render for each of the two directories, and one checking the first splice of each kind of entry
+        assertThat(rendered).hasSize(4);
+        assertThat(items.get("treeHtml")).isEqualTo(renderEntries(tree(items)));
+        assertThat(totals.get("treeHtml")).isEqualTo(renderEntries(tree(totals)));
+        assertThat((String) totals.get("treeHtml")).contains("<a href=\"totals.html\" aria-current=\"page\">");
+    }
+
+    @Test
+    void marksOnlyThePageItselfInTheSharedTree() {
+        NavFragments fragments = new NavFragments(CuratedReport.of(ROOT), null);
+        Map<String, Object> orders = fragments.of(ORDERS, List.of(ROOT));
+
+        Map<String, Object> items = fragments.of(ITEMS, List.of(ROOT, ORDERS));
+
+        Map<String, Object> ordersEntry = tree(items).get(0);
+        assertThat(ordersEntry).containsEntry("current", false);
+        assertThat(entries(ordersEntry)).extracting(entry -> entry.get("current")).containsExactly(true, false);
+        assertThat(tree(orders).get(0)).containsEntry("current", true);
+        assertThat(items).doesNotContainKey("treeHtml");
+    }
+
+    @Test
+    void leavesTheTreeToThePageWhenEntriesRenderDifferently() {
+        NavFragments fragments = new NavFragments(CuratedReport.of(ROOT), tree -> "<ul>" + tree.size() + "</ul>");
+
+        Map<String, Object> items = fragments.of(ITEMS, List.of(ROOT, ORDERS));
+
+        assertThat(items).doesNotContainKey("treeHtml");
+        assertThat(fragments.of(TOTALS, List.of(ROOT, ORDERS))).doesNotContainKey("treeHtml");
+    }
+
+    @Test
+    void leavesTheTreeToThePageWhenTableEntriesRenderDifferently() {
+        NavFragments fragments = new NavFragments(CuratedReport.of(ROOT), this::renderTablesWithLeadingDot);
+
+        Map<String, Object> orders = fragments.of(ORDERS, List.of(ROOT));
+        Map<String, Object> items = fragments.of(ITEMS, List.of(ROOT, ORDERS));
+
+        assertThat(orders.get("treeHtml")).isEqualTo(renderTablesWithLeadingDot(tree(orders)));
+        assertThat(items).doesNotContainKey("treeHtml");
+        assertThat(fragments.of(TOTALS, List.of(ROOT, ORDERS))).doesNotContainKey("treeHtml");
+    }
+
+    // --- helpers ---
+
+    /** Renders index entries as the built-in macro does, and puts a status dot before the link of a table entry. */
+    private String renderTablesWithLeadingDot(List<Map<String, Object>> tree) {
+        return renderEntries(tree)
+                .replaceAll("(<li class=\"nav-item table[^\"]*\">\n)<a ", "$1<span class=\"dot\"></span><a ");
+    }
+
+    /** Renders entries the way the built-in {@code renderNavItem} macro lays them out. */
+    private String renderEntries(List<Map<String, Object>> tree) {
+        rendered.add(tree);
+        StringBuilder markup = new StringBuilder();
+        tree.forEach(entry -> renderEntry(entry, markup));
+        return markup.toString();
+    }
+
+    private static void renderEntry(Map<String, Object> entry, StringBuilder markup) {
+        boolean current = Boolean.TRUE.equals(entry.get("current"));
+        markup.append("<li class=\"nav-item ")
+                .append(entry.get("type"))
+                .append(' ')
+                .append(entry.get("status"))
+                .append(current ? " current" : "")
+                .append("\">\n<a href=\"")
+                .append(entry.get("href"))
+                .append('"')
+                .append(current ? " aria-current=\"page\"" : "")
+                .append('>')
+                .append(entry.get("label"))
+                .append("</a>");
+        if (entry.containsKey("contents")) {
+            markup.append("<ul>");
+            entries(entry).forEach(child -> renderEntry(child, markup));
+            markup.append("</ul>");
+        }
+        markup.append("</li>");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> tree(Map<String, Object> nav) {
+        return (List<Map<String, Object>>) nav.get("tree");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> entries(Map<String, Object> entry) {
+        return (List<Map<String, Object>>) entry.get("contents");
+    }
+}
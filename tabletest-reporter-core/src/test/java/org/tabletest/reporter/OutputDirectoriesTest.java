@@ -0,0 +1,56 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Unpublished: how output directories are created, not a user-facing rule.
+class OutputDirectoriesTest {
+
+    @TempDir
+    Path outDir;
+
+    private final OutputDirectories directories = new OutputDirectories();
+
+    @Test
+    void createsADirectoryWithItsMissingParents() throws IOException {
+        directories.create(outDir.resolve("report/feature/table"));
+
+        assertThat(outDir.resolve("report/feature/table")).isDirectory();
+    }
+
+    @Test
+    void createsASiblingUnderAKnownParent() throws IOException {
+        directories.create(outDir.resolve("report/feature"));
+
+        directories.create(outDir.resolve("report/other/table"));
+
+        assertThat(outDir.resolve("report/other/table")).isDirectory();
+    }
+
+    @Test
+    void acceptsADirectorySomethingElseCreated() throws IOException {
+        directories.create(outDir.resolve("report"));
+        Files.createDirectories(outDir.resolve("report/feature"));
+
+        directories.create(outDir.resolve("report/feature/table"));
+
+        assertThat(outDir.resolve("report/feature/table")).isDirectory();
+    }
+
+    @Test
+    void refusesAFileWhereADirectoryBelongs() throws IOException {
+        directories.create(outDir.resolve("report"));
+        Files.writeString(outDir.resolve("report/feature"), "not a directory");
+
+        assertThatThrownBy(() -> directories.create(outDir.resolve("report/feature")))
+                .isInstanceOf(FileAlreadyExistsException.class);
+    }
+}
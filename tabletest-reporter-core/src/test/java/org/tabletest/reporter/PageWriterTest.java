@@ -0,0 +1,88 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Unpublished: how pages reach the disk, not a user-facing rule.
+class PageWriterTest {
+
+    @TempDir
+    Path outDir;
+
+    @Test
+    void writesEveryPageHandedOverBeforeClosing() {
+        int pages = PageWriter.QUEUE_CAPACITY * 3;
+        PageWriter writer = new PageWriter(new OutputDirectories());
+        try (writer) {
+            for (int i = 0; i < pages; i++) {
+                writer.write(outDir.resolve("feature-" + i % 7).resolve("page-" + i + ".md"), "page " + i);
+            }
+        }
+
+        assertThat(outDir.resolve("feature-3/page-10.md")).hasContent("page 10");
+        assertThat(writer.metrics().pages()).isEqualTo(pages);
+        assertThat(writer.metrics().peakQueueDepth()).isBetween(1, PageWriter.QUEUE_CAPACITY);
+    }
+
+    @Test
+    void streamsAPageOnTheWritingThread() {
+        PageWriter writer = new PageWriter(new OutputDirectories());
+        try (writer) {
+            writer.stream(outDir.resolve("feature/page.json"), out -> out.write("{}".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        assertThat(outDir.resolve("feature/page.json")).hasContent("{}");
+        assertThat(writer.metrics().pages()).isEqualTo(1);
+    }
+
+    @Test
+    void aPageThatFailsToStreamFailsTheReport() {
+        assertThatThrownBy(() -> {
+                    try (PageWriter writer = new PageWriter(new OutputDirectories())) {
+                        writer.stream(outDir.resolve("page.json"), out -> {
+                            throw new IllegalStateException("no rows");
+                        });
+                    }
+                })
+                .hasMessageContaining("Failed to write output file")
+                .hasRootCauseMessage("no rows");
+    }
+
+    @Test
+    void aFailedWriteFailsTheReport() throws IOException {
+        Files.writeString(outDir.resolve("feature"), "a file where a directory belongs");
+
+        assertThatThrownBy(() -> {
+                    try (PageWriter writer = new PageWriter(new OutputDirectories())) {
+                        writer.write(outDir.resolve("feature/page.md"), "page");
+                    }
+                })
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Failed to write output file");
+    }
+
+    @Test
+    void pagesWrittenAfterAFailureFailOnce() throws IOException {
+        Files.writeString(outDir.resolve("feature"), "a file where a directory belongs");
+
+        assertThatThrownBy(() -> {
+                    try (PageWriter writer = new PageWriter(new OutputDirectories())) {
+                        writer.write(outDir.resolve("feature/page.md"), "page");
+                        while (true) {
+                            writer.write(outDir.resolve("other.md"), "page");
+                            Thread.onSpinWait();
+                        }
+                    }
+                })
+                .hasMessageContaining("feature")
+                .hasNoSuppressedExceptions();
+    }
+}
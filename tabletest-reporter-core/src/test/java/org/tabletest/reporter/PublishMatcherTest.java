@@ -0,0 +1,51 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+import org.tabletest.junit.TableTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Unpublished: internal compiled form of the publish selection, not a user-facing rule.
+class PublishMatcherTest {
+
+    @TableTest("""
+        Scenario                           | Segment | Name     | Matches?
+        Leading part                       | ma*     | maps     | true
+        Trailing part                      | *s      | maps     | true
+        Part in the middle                 | *a*     | maps     | true
+        Parts in order                     | m*p*    | maps     | true
+        Parts out of order                 | p*m*    | maps     | false
+        Leading and trailing parts overlap | ma*am   | mam      | false
+        Wildcard alone matches any name    | *       | anything | true
+        """)
+    void matchesAWildcardSegmentByItsParts(String segment, String name, boolean matches) {
+        assertThat(PublishMatcher.Glob.of(segment).matches(name)).isEqualTo(matches);
+    }
+
+    @Test
+    void walksEveryPatternAtOnce() {
+        PublishMatcher matcher = PublishMatcher.compile(
+                new PublishSelection(List.of("parsing", "**/maps"), List.of("parsing/lists")));
+
+        PublishMatcher.State parsing = matcher.start().step("parsing");
+
+        assertThat(parsing.publishes(true)).isFalse();
+        assertThat(parsing.step("lists").publishes(false)).isTrue();
+        assertThat(parsing.step("maps").publishes(true)).isFalse();
+        assertThat(matcher.start().step("features").publishes(true)).isTrue();
+    }
+
+    @Test
+    void reportsThePathsThatNamedNoPageInDeclaredOrder() {
+        PublishMatcher matcher = PublishMatcher.compile(
+                new PublishSelection(List.of("nosuch", "parsing"), List.of("parsing/lists", "parsing/none")));
+
+        PublishMatcher.State parsing = matcher.start().step("parsing");
+        parsing.publishes(true);
+        parsing.step("lists").publishes(false);
+
+        assertThat(matcher.unmatched()).containsExactly("nosuch", "parsing/none");
+    }
+}
@@ -52,6 +52,17 @@ class PublishSelectionApplyTest {
         assertThat(pagePaths(published)).isEmpty();
     }
 
+    @Test
+    void aFeatureTheSelectionLeavesWholeIsSharedNotCopied() {
+        IndexNode report = (IndexNode) sampleReport();
+
+        IndexNode published =
+                (IndexNode) new PublishSelection(List.of("parsing/maps"), List.of()).applyTo(report);
+
+        assertThat(published.contents().get(0)).isSameAs(report.contents().get(0));
+        assertThat(published.contents().get(1)).isNotSameAs(report.contents().get(1));
+    }
+
     // --- helpers ---
 
     /** The report every scenario starts from: features/null-values, parsing/lists, parsing/maps. */
@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.tabletest.reporter.BuiltInFormat.MARKDOWN;
 
 // Unpublished: end-to-end wiring of the publish selection into the report, not a user-facing rule.
@@ -40,6 +41,48 @@ class PublishSelectionReportTest {
         assertThat(outDir.resolve("auth-test")).doesNotExist();
     }
 
+    @Test
+    void eachVariantPublishesItsOwnSelectionFromOneLoad() throws IOException {
+        Path inDir = setupTwoClassInput();
+        Path internalDir = tempDir.resolve("internal");
+        Path customerDir = tempDir.resolve("customer");
+        ReportVariant customer = new ReportVariant(
+                "customer",
+                new SpecMetadata("Customer Spec", null, List.of()),
+                new PublishSelection(List.of("order-test"), List.of()),
+                customerDir);
+
+        report(inDir, internalDir, PublishSelection.EMPTY, List.of(customer));
+
+        assertThat(internalDir.resolve("order-test/place-order.md")).exists();
+        assertThat(customerDir.resolve("order-test")).doesNotExist();
+        assertThat(customerDir.resolve("auth-test/login-validation.md")).exists();
+        assertThat(Files.readString(customerDir.resolve("index.md"))).contains("Customer Spec");
+        assertThat(Files.readString(internalDir.resolve("index.md"))).doesNotContain("Customer Spec");
+    }
+
+    @Test
+    void refusesAVariantWrittenIntoAnotherOutputsDirectory() throws IOException {
+        Path inDir = setupTwoClassInput();
+        Path internalDir = tempDir.resolve("internal");
+        ReportVariant nested = new ReportVariant(
+                "customer", SpecMetadata.EMPTY, PublishSelection.EMPTY, internalDir.resolve("customer"));
+        Path editions = tempDir.resolve("editions");
+        ReportVariant first = new ReportVariant("first", SpecMetadata.EMPTY, PublishSelection.EMPTY, editions);
+        ReportVariant second =
+                new ReportVariant("second", SpecMetadata.EMPTY, PublishSelection.EMPTY, editions.resolve("second"));
+
+        assertThatThrownBy(() -> report(inDir, internalDir, PublishSelection.EMPTY, List.of(nested)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("variant 'customer'")
+                .hasMessageContaining("the report");
+        assertThatThrownBy(() -> report(inDir, tempDir.resolve("out"), PublishSelection.EMPTY, List.of(second, first)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("variant 'first'")
+                .hasMessageContaining("variant 'second'");
+        assertThat(internalDir).doesNotExist();
+    }
+
     @Test
     void withoutASelectionEveryTablePublishes() throws IOException {
         Path inDir = setupTwoClassInput();
@@ -52,8 +95,13 @@ class PublishSelectionReportTest {
     }
 
     private void report(Path inDir, Path outDir, PublishSelection selection) {
-        new TableTestReporter(new ReportConfiguration(
-                        MARKDOWN, null, IndexDepth.DEFAULT, false, SpecMetadata.EMPTY, selection))
+        report(inDir, outDir, selection, List.of());
+    }
+
+    private ReportResult report(Path inDir, Path outDir, PublishSelection selection, List<ReportVariant> variants) {
+        return new TableTestReporter(new ReportConfiguration(
+                                MARKDOWN, null, IndexDepth.DEFAULT, false, SpecMetadata.EMPTY, selection)
+                        .withVariants(variants))
                 .report(inDir, outDir);
     }
 
@@ -7,6 +7,10 @@ import org.tabletest.junit.TableTest;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -31,8 +35,8 @@ class ReportConfigurationResolverTest {
             String resolvedFormat,
             int resolvedDepth,
             boolean resolvedSingleFile) {
-        ReportConfiguration config =
-                ReportConfigurationResolver.resolve(new ReportOptions(format, null, indexDepth, singleFile, null));
+        ReportConfiguration config = ReportConfigurationResolver.resolve(
+                new ReportOptions(format, null, indexDepth, singleFile, null, null, null, null, null, null, null));
 
         assertThat(config.format().formatName()).isEqualTo(resolvedFormat);
         assertThat(config.indexDepth().value()).isEqualTo(resolvedDepth);
@@ -41,16 +45,16 @@ class ReportConfigurationResolverTest {
 
     @Test
     void passesValidTemplateDirectoryThrough() {
-        ReportConfiguration config =
-                ReportConfigurationResolver.resolve(new ReportOptions("asciidoc", tempDir, null, null, null));
+        ReportConfiguration config = ReportConfigurationResolver.resolve(
+                new ReportOptions("asciidoc", tempDir, null, null, null, null, null, null, null, null, null));
 
         assertThat(config.templateDirectory()).isEqualTo(tempDir);
     }
 
     @Test
     void resolvesEmptyCurationWhenNoConfigFile() {
-        ReportConfiguration config =
-                ReportConfigurationResolver.resolve(new ReportOptions(null, null, null, null, null));
+        ReportConfiguration config = ReportConfigurationResolver.resolve(
+                new ReportOptions(null, null, null, null, null, null, null, null, null, null, null));
 
         assertThat(config.specMetadata()).isEqualTo(SpecMetadata.EMPTY);
         assertThat(config.publishSelection()).isEqualTo(PublishSelection.EMPTY);
@@ -64,19 +68,48 @@ class ReportConfigurationResolverTest {
                   exclude: [parsing]
                 """);
 
-        ReportConfiguration config =
-                ReportConfigurationResolver.resolve(new ReportOptions(null, null, null, null, configFile));
+        ReportConfiguration config = ReportConfigurationResolver.resolve(
+                new ReportOptions(null, null, null, null, configFile, null, null, null, null, null, null));
 
         assertThat(config.specMetadata().title()).isEqualTo("Core Spec");
         assertThat(config.publishSelection().exclude()).containsExactly("parsing");
     }
 
+    @TableTest("""
+        Scenario                        | Generated at         | SOURCE_DATE_EPOCH | Resolved instant?
+        Neither given                   |                      |                   |
+        ISO-8601 instant                | 2026-07-20T14:32:09Z |                   | 2026-07-20T14:32:09Z
+        Seconds since the epoch         | 1784557929           |                   | 2026-07-20T14:32:09Z
+        From the environment            |                      | 1784557929        | 2026-07-20T14:32:09Z
+        Option wins over an environment | 2027-01-01T00:00:00Z | 1784557929        | 2027-01-01T00:00:00Z
+        """)
+    void resolvesAFixedGenerationTime(String generatedAt, String sourceDateEpoch, Instant resolvedInstant) {
+        Map<String, String> environment = sourceDateEpoch == null
+                ? Map.of()
+                : Map.of(ReportConfigurationResolver.SOURCE_DATE_EPOCH, sourceDateEpoch);
+
+        ReportConfiguration config = ReportConfigurationResolver.resolve(
+                new ReportOptions(null, null, null, null, null, generatedAt, null, null, null, null, null),
+                environment);
+
+        assertThat(config.generatedAt()).isEqualTo(resolvedInstant);
+    }
+
+    @Test
+    void rejectsAGenerationTimeInNeitherForm() {
+        assertThatThrownBy(() -> ReportConfigurationResolver.resolve(
+                        new ReportOptions(null, null, null, null, null, "yesterday", null, null, null, null, null),
+                        Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid generatedAt 'yesterday'");
+    }
+
     @Test
     void rejectsMissingTemplateDirectory() {
         Path missing = tempDir.resolve("does-not-exist");
 
-        assertThatThrownBy(
-                        () -> ReportConfigurationResolver.resolve(new ReportOptions(null, missing, null, null, null)))
+        assertThatThrownBy(() -> ReportConfigurationResolver.resolve(
+                        new ReportOptions(null, missing, null, null, null, null, null, null, null, null, null)))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageStartingWith("Template directory does not exist:");
     }
@@ -85,8 +118,103 @@ class ReportConfigurationResolverTest {
     void rejectsTemplatePathThatIsAFile() throws IOException {
         Path file = Files.createFile(tempDir.resolve("template.txt"));
 
-        assertThatThrownBy(() -> ReportConfigurationResolver.resolve(new ReportOptions(null, file, null, null, null)))
+        assertThatThrownBy(() -> ReportConfigurationResolver.resolve(
+                        new ReportOptions(null, file, null, null, null, null, null, null, null, null, null)))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageStartingWith("Template path is not a directory:");
     }
+
+    @Test
+    void rejectsNegativeRowsPerPage() {
+        assertThatThrownBy(() -> ReportConfigurationResolver.resolve(
+                        new ReportOptions(null, null, null, null, null, null, -1, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid rowsPerPage '-1'");
+    }
+
+    @Test
+    void rejectsCompressedSectionsWithoutSingleFile() {
+        assertThatThrownBy(() -> ReportConfigurationResolver.resolve(
+                        new ReportOptions("html", null, null, false, null, null, null, null, null, true, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid compressSections");
+    }
+
+    @Test
+    void rejectsNegativeVirtualizeAbove() {
+        assertThatThrownBy(() -> ReportConfigurationResolver.resolve(
+                        new ReportOptions(null, null, null, null, null, null, null, null, null, null, -1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid virtualizeAbove '-1'");
+    }
+
+    @Test
+    void resolvesAdditionalOutputsByFormatName() {
+        Path wiki = tempDir.resolve("wiki");
+        ReportConfiguration config = ReportConfigurationResolver.resolve(
+                new ReportOptions("html", null, null, null, null, null, null, Map.of("md", wiki), null, null, null));
+
+        assertThat(config.format()).isEqualTo(BuiltInFormat.HTML);
+        assertThat(config.additionalOutputs()).containsExactly(new FormatOutput(BuiltInFormat.MARKDOWN, wiki));
+    }
+
+    @Test
+    void rejectsUnknownAdditionalFormat() {
+        assertThatThrownBy(() -> ReportConfigurationResolver.resolve(new ReportOptions(
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        Map.of("pdf", tempDir.resolve("pdf")),
+                        null,
+                        null,
+                        null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Unknown format: pdf");
+    }
+
+    @Test
+    void readsEachVariantFromItsOwnConfigurationFile() throws IOException {
+        Path customerFile = Files.writeString(tempDir.resolve("customer.yaml"), """
+                title: "Customer Spec"
+                publish:
+                  exclude: [internal]
+                """);
+        Path customerDir = tempDir.resolve("customer");
+        List<VariantOptions> variants = List.of(new VariantOptions("customer", customerFile, customerDir));
+
+        ReportConfiguration config = ReportConfigurationResolver.resolve(
+                new ReportOptions(null, null, null, null, null, null, null, null, variants, null, null));
+
+        assertThat(config.variants()).singleElement().satisfies(variant -> {
+            assertThat(variant.name()).isEqualTo("customer");
+            assertThat(variant.specMetadata().title()).isEqualTo("Customer Spec");
+            assertThat(variant.publishSelection().exclude()).containsExactly("internal");
+            assertThat(variant.outputDirectory()).isEqualTo(customerDir);
+        });
+    }
+
+    @TableTest("""
+        Scenario                     | Name     | Config file  | Second name | Message?
+        Name with a path separator   | a/b      | variant.yaml |             | Invalid variant name 'a/b'
+        Missing configuration file   | customer | missing.yaml |             | Configuration file of variant 'customer' does not exist
+        Same name declared twice     | customer | variant.yaml | customer    | Variant 'customer' is declared twice
+        """)
+    void rejectsInvalidVariants(String name, String configFile, String secondName, String message)
+            throws IOException {
+        Files.writeString(tempDir.resolve("variant.yaml"), "title: \"Variant\"\n");
+        List<VariantOptions> variants = new ArrayList<>();
+        variants.add(new VariantOptions(name, tempDir.resolve(configFile), tempDir.resolve("first")));
+        if (secondName != null) {
+            variants.add(new VariantOptions(secondName, tempDir.resolve(configFile), tempDir.resolve("second")));
+        }
+
+        assertThatThrownBy(() -> ReportConfigurationResolver.resolve(
+                        new ReportOptions(null, null, null, null, null, null, null, null, variants, null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith(message);
+    }
 }
@@ -0,0 +1,109 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Unpublished: internal single-walk curation of the report tree, not a user-facing rule.
+class ReportCurationTest {
+
+    @Test
+    void selectsAndCuratesInTheSameWalk() {
+        SpecMetadata metadata = new SpecMetadata(
+                "Spec", null, List.of(new FeatureMetadata("parsing", "Parsing", null, List.of())));
+
+        IndexNode curated = (IndexNode) ReportCuration.apply(
+                        sampleReport(), new PublishSelection(List.of("parsing/maps"), List.of()), metadata)
+                .root();
+
+        assertThat(curated.resource()).containsEntry("title", "Spec");
+        assertThat(curated.contents()).extracting(ReportNode::name).containsExactly("parsing", "features");
+        IndexNode parsing = (IndexNode) curated.contents().get(0);
+        assertThat(parsing.resource()).containsEntry("title", "Parsing");
+        assertThat(parsing.contents()).extracting(ReportNode::name).containsExactly("lists");
+    }
+
+    @Test
+    void aDeclaredFeatureWhosePageDropsIsSkipped() {
+        SpecMetadata metadata = new SpecMetadata(
+                null, null, List.of(new FeatureMetadata("parsing", "Parsing", null, List.of())));
+
+        IndexNode curated = (IndexNode) ReportCuration.apply(
+                        sampleReport(), new PublishSelection(List.of("parsing"), List.of()), metadata)
+                .root();
+
+        assertThat(curated.contents()).extracting(ReportNode::name).containsExactly("features");
+    }
+
+    @Test
+    void onlyThePathToWhatChangedIsCopied() {
+        IndexNode report = (IndexNode) sampleReport();
+        SpecMetadata metadata = new SpecMetadata(
+                null,
+                null,
+                List.of(new FeatureMetadata(
+                        "parsing",
+                        null,
+                        null,
+                        List.of(new FeatureMetadata("maps", "Maps", null, List.of())))));
+
+        IndexNode curated =
+                (IndexNode) ReportCuration.apply(report, PublishSelection.EMPTY, metadata).root();
+
+        IndexNode parsing = (IndexNode) report.contents().get(1);
+        IndexNode curatedParsing = (IndexNode) curated.contents().get(0);
+        assertThat(curated.contents().get(1)).isSameAs(report.contents().get(0));
+        assertThat(curatedParsing).isNotSameAs(parsing);
+        assertThat(curatedParsing.contents().get(1)).isSameAs(parsing.contents().get(0));
+        assertThat(curatedParsing.contents().get(0).resource()).containsEntry("title", "Maps");
+    }
+
+    @Test
+    void metadataTheTreeAlreadyHoldsChangesNothing() {
+        ReportNode report = sampleReport();
+        SpecMetadata metadata = new SpecMetadata(
+                null, null, List.of(new FeatureMetadata("features", null, null, List.of())));
+
+        assertThat(ReportCuration.apply(report, PublishSelection.EMPTY, metadata).root()).isSameAs(report);
+    }
+
+    @Test
+    void rollsUpTheStatusOfEveryPublishedPage() {
+        CuratedReport curated = ReportCuration.apply(
+                sampleReport(), new PublishSelection(List.of("parsing/maps"), List.of()), SpecMetadata.EMPTY);
+
+        IndexNode root = (IndexNode) curated.root();
+        IndexNode parsing = (IndexNode) root.contents().get(1);
+        assertThat(curated.status(root)).isEqualTo(ReportStatus.ofScenarios(2, 2));
+        assertThat(curated.status(parsing)).isEqualTo(StatusRollup.of(parsing));
+        assertThat(curated.status(parsing.contents().get(0))).isEqualTo(ReportStatus.ofScenarios(1, 1));
+    }
+
+    // --- helpers ---
+
+    /** features/null-values, parsing/lists and parsing/maps; every table runs one passing scenario but maps. */
+    private static ReportNode sampleReport() {
+        return new IndexNode(
+                "junit", "", null, List.of(feature("features", "null-values"), feature("parsing", "lists", "maps")));
+    }
+
+    private static ReportNode feature(String name, String... tableNames) {
+        List<ReportNode> tables = new ArrayList<>();
+        for (String tableName : tableNames) {
+            tables.add(new TableNode(tableName, "/" + name + "/" + tableName, tableResource(tableName)));
+        }
+        return new IndexNode(name, "/" + name, null, List.copyOf(tables));
+    }
+
+    private static Map<String, Object> tableResource(String tableName) {
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("title", tableName);
+        resource.put("rowResults", List.of(Map.of("passed", !tableName.equals("maps"))));
+        return resource;
+    }
+}
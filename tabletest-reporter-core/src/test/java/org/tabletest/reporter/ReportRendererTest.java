@@ -0,0 +1,179 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tabletest.junit.Description;
+import org.tabletest.junit.TableTest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.tabletest.reporter.support.GrammarOutput.configuration;
+import static org.tabletest.reporter.support.GrammarOutput.outputFor;
+
+@DisplayName("Renderers written in Java")
+class ReportRendererTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("Writes every page through the renderer instead of the templates")
+    @Description("""
+        A format a renderer on the class path provides is laid out like any other: an index page
+        per class and a page per table, split by the page size. Each page is the renderer's own
+        output, written straight to the file and named with the renderer's extension.
+        """)
+    @TableTest("""
+        Scenario        | Page                           | Content?
+        The root index  | index.csv                      | /parser-test
+        The class index | parser-test/index.csv          | /parser-test/grammar
+        The first page  | parser-test/grammar.csv        | 'row-1,row-2'
+        The last page   | parser-test/grammar.page-2.csv | row-3
+        """)
+    void writesEveryPageThroughTheRenderer(String page, String content) throws IOException {
+        Path outDir = tempDir.resolve("out");
+
+        ReportResult result = reporter(2).report(List.of(outputFor(3, tempDir)), outDir);
+
+        assertThat(outDir.resolve(page)).hasContent(content);
+        assertThat(result.filesGenerated()).isEqualTo(4);
+    }
+
+    @Test
+    void tellsEachPageWhereItSits() throws IOException {
+        Path outDir = tempDir.resolve("out");
+        List<ReportRenderer.Page> pages = new CopyOnWriteArrayList<>();
+
+        new TableTestReporter(configuration(new RendererFormat("csv", new CsvRenderer() {
+                    @Override
+                    public void renderTable(TableNode table, Page page, OutputStream out) {
+                        pages.add(page);
+                    }
+                })))
+                .report(List.of(outputFor(3, tempDir)), outDir);
+
+        assertThat(pages).singleElement().satisfies(page -> {
+            assertThat(page.ancestors()).extracting(ReportNode::outPath).containsExactly("", "/parser-test");
+            assertThat(page.fromRow()).isZero();
+            assertThat(page.toRow()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void deletesThePagesAnUpdateNoLongerHolds() throws IOException {
+        Path outDir = tempDir.resolve("out");
+        Path recordFile = tempDir.resolve("pages.digest");
+        reporter(2).update(List.of(outputFor(3, tempDir)), outDir, recordFile);
+
+        reporter(2).update(List.of(outputFor(1, tempDir)), outDir, recordFile);
+
+        assertThat(outDir.resolve("parser-test/grammar.csv")).hasContent("row-1");
+        assertThat(outDir.resolve("parser-test/grammar.page-2.csv")).doesNotExist();
+    }
+
+    @Test
+    void reportsRenderersThatCannotBeLoadedEachTimeTheyAreAskedFor() {
+        List<String> loads = new CopyOnWriteArrayList<>();
+        ReportRenderers.Installed installed = new ReportRenderers.Installed(() -> {
+            loads.add("load");
+            throw new ServiceConfigurationError("Provider org.example.Broken could not be instantiated");
+        });
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThatThrownBy(installed::renderers)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("org.example.Broken could not be instantiated");
+        }
+        assertThat(loads).hasSize(1);
+    }
+
+    @DisplayName("Refuses a renderer whose format name is already taken")
+    @Description("""
+        A renderer is selected by its format name alone, so two renderers of one name, or one
+        named like a built-in format, would leave the choice to class path order. Either is refused
+        as the renderers are loaded, naming the renderers involved.
+        """)
+    @TableTest("""
+        Scenario                   | Format names | Error message?
+        Names of their own         | [csv, json]  |
+        A built-in format's name   | [md]         | cannot take the built-in format name md
+        The same name in two cases | [csv, CSV]   | both render format csv
+        """)
+    void refusesATakenFormatName(List<String> formatNames, String errorMessage) {
+        List<ReportRenderer> renderers =
+                formatNames.stream().<ReportRenderer>map(NamedRenderer::new).toList();
+
+        if (errorMessage == null) {
+            assertThat(ReportRenderers.of(renderers).formatNames()).containsExactlyInAnyOrderElementsOf(formatNames);
+        } else {
+            assertThatThrownBy(() -> ReportRenderers.of(renderers))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(errorMessage);
+        }
+    }
+
+    @Test
+    void reportsARendererNamingNoFormatAsOneThatCannotBeLoaded() {
+        ReportRenderers.Installed installed = new ReportRenderers.Installed(() -> List.of(new NamedRenderer(null)));
+
+        assertThatThrownBy(installed::renderers)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(NamedRenderer.class.getName() + " names no format");
+    }
+
+    // --- helpers ---
+
+    private static TableTestReporter reporter(int rowsPerPage) {
+        return new TableTestReporter(
+                configuration(new RendererFormat("csv", new CsvRenderer())).withRowsPerPage(rowsPerPage));
+    }
+
+    /** An index lists where its children are; a table page writes the first cell of each of its rows. */
+    private static class CsvRenderer implements ReportRenderer {
+
+        @Override
+        public String formatName() {
+            return "csv";
+        }
+
+        @Override
+        public void renderIndex(IndexNode index, Page page, OutputStream out) throws IOException {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            for (ReportNode child : index.contents()) {
+                writer.write((child == index.contents().get(0) ? "" : ",") + child.outPath());
+            }
+            writer.flush();
+        }
+
+        @Override
+        public void renderTable(TableNode table, Page page, OutputStream out) throws IOException {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            List<?> rows = (List<?>) table.resource().get("rows");
+            for (int row = page.fromRow(); row < page.toRow(); row++) {
+                Map<?, ?> firstCell = (Map<?, ?>) ((List<?>) rows.get(row)).get(0);
+                writer.write((row > page.fromRow() ? "," : "") + firstCell.get("value"));
+            }
+            writer.flush();
+        }
+    }
+
+    private record NamedRenderer(String formatName) implements ReportRenderer {
+
+        @Override
+        public void renderIndex(IndexNode index, Page page, OutputStream out) {}
+
+        @Override
+        public void renderTable(TableNode table, Page page, OutputStream out) {}
+    }
+}
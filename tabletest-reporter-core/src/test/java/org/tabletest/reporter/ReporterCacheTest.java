@@ -0,0 +1,54 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.tabletest.reporter.BuiltInFormat.MARKDOWN;
+import static org.tabletest.reporter.support.GrammarOutput.configuration;
+import static org.tabletest.reporter.support.GrammarOutput.outputFor;
+
+// Unpublished: the warm state of a long-running reporter, not a user-facing rule.
+class ReporterCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void aLaterReportSeesOutputRewrittenSinceTheFirst() throws IOException {
+        ReporterCache cache = new ReporterCache();
+        Path inDir = outputFor(List.of("x"), tempDir);
+        cache.reporter(configuration(MARKDOWN)).report(List.of(inDir), tempDir.resolve("first"));
+
+        Path rewritten = outputFor(List.of("rewritten"), tempDir);
+        Files.setLastModifiedTime(
+                rewritten.resolve("org.example.ParserTest/rule(String)/TABLETEST-grammar.yaml"),
+                FileTime.from(Instant.now().plusSeconds(60)));
+        cache.reporter(configuration(MARKDOWN)).report(List.of(inDir), tempDir.resolve("second"));
+
+        assertThat(Files.readString(tempDir.resolve("second/parser-test/grammar.md"))).contains("rewritten");
+    }
+
+    @Test
+    void aLaterReportSeesAnEditedTemplate() throws IOException {
+        ReporterCache cache = new ReporterCache();
+        Path inDir = outputFor(List.of("x"), tempDir);
+        Path templates = Files.createDirectories(tempDir.resolve("templates"));
+        Path template = Files.writeString(templates.resolve("table.md.peb"), "first template");
+        cache.reporter(configuration(MARKDOWN, templates)).report(List.of(inDir), tempDir.resolve("first"));
+
+        Files.writeString(template, "edited template");
+        Files.setLastModifiedTime(template, FileTime.from(Instant.now().plusSeconds(60)));
+        cache.reporter(configuration(MARKDOWN, templates)).report(List.of(inDir), tempDir.resolve("second"));
+
+        assertThat(tempDir.resolve("first/parser-test/grammar.md")).hasContent("first template");
+        assertThat(tempDir.resolve("second/parser-test/grammar.md")).hasContent("edited template");
+    }
+}
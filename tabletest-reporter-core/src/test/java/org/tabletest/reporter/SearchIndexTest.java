@@ -6,6 +6,8 @@ import org.tabletest.junit.Description;
 import org.tabletest.junit.Scenario;
 import org.tabletest.junit.TableTest;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
 
@@ -84,6 +86,14 @@ class SearchIndexTest {
         assertThat(javascript).contains("\"calendar/leap-year-rules.html\"");
     }
 
+    @Test
+    void streams_the_same_asset_it_renders() throws IOException {
+        StringWriter streamed = new StringWriter();
+        SearchIndex.of(root).writeJavaScript(streamed);
+
+        assertThat(streamed.toString()).isEqualTo(SearchIndex.of(root).asJavaScript());
+    }
+
     @DisplayName("Finds pages whose title or text contains the query")
     @Description("""
             The searched report holds one table, "Leap Year Rules", inside a feature titled
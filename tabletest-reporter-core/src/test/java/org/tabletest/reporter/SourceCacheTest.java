@@ -0,0 +1,89 @@
+package org.tabletest.reporter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Unpublished: the warm state of a long-running reporter, not a user-facing rule.
+class SourceCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Path> parsed = new ArrayList<>();
+    private final Function<Path, Map<String, Object>> parser = file -> {
+        parsed.add(file.getFileName());
+        return Map.of();
+    };
+
+    @Test
+    void anUnchangedFileIsParsedOnce() throws IOException {
+        SourceCache cache = new SourceCache();
+        Path file = yaml(tempDir, "TABLETEST-a.yaml");
+
+        cache.yaml(file, parser);
+        cache.yaml(file, parser);
+
+        assertThat(parsed).containsExactly(Path.of("TABLETEST-a.yaml"));
+    }
+
+    @Test
+    void aFileRewrittenAtTheSameSizeAndTimeIsParsedAgain() throws IOException {
+        SourceCache cache = new SourceCache();
+        Path file = Files.writeString(tempDir.resolve("TABLETEST-a.yaml"), "\"title\": \"First\"\n");
+        FileTime written = Files.getLastModifiedTime(file);
+        cache.yaml(file, parser);
+
+        Files.writeString(file, "\"title\": \"Other\"\n");
+        Files.setLastModifiedTime(file, written);
+        cache.yaml(file, parser);
+
+        assertThat(parsed).containsExactly(Path.of("TABLETEST-a.yaml"), Path.of("TABLETEST-a.yaml"));
+    }
+
+    @Test
+    void aPassForgetsTheFilesItDidNotFindUnderItsDirectory() throws IOException {
+        SourceCache cache = new SourceCache();
+        Path kept = yaml(tempDir, "TABLETEST-kept.yaml");
+        Path dropped = yaml(tempDir, "TABLETEST-dropped.yaml");
+        cache.yaml(kept, parser);
+        cache.yaml(dropped, parser);
+
+        cache.retainVisited(tempDir, List.of(Path.of("TABLETEST-kept.yaml")));
+        parsed.clear();
+        cache.yaml(kept, parser);
+        cache.yaml(dropped, parser);
+
+        assertThat(parsed).containsExactly(Path.of("TABLETEST-dropped.yaml"));
+    }
+
+    @Test
+    void aPassKeepsTheFilesOfOtherDirectories() throws IOException {
+        SourceCache cache = new SourceCache();
+        Path walked = Files.createDirectories(tempDir.resolve("core"));
+        Path other = yaml(Files.createDirectories(tempDir.resolve("junit")), "TABLETEST-other.yaml");
+        cache.yaml(other, parser);
+
+        cache.retainVisited(walked, List.of());
+        parsed.clear();
+        cache.yaml(other, parser);
+
+        assertThat(parsed).isEmpty();
+    }
+
+    // --- helpers ---
+
+    private static Path yaml(Path dir, String name) throws IOException {
+        return Files.writeString(dir.resolve(name), "\"title\": \"" + name + "\"\n");
+    }
+}
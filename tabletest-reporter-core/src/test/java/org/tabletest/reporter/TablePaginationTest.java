@@ -0,0 +1,158 @@
+package org.tabletest.reporter;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tabletest.junit.Description;
+import org.tabletest.junit.TableTest;
+import org.tabletest.reporter.support.HtmlValidator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.tabletest.reporter.BuiltInFormat.HTML;
+import static org.tabletest.reporter.BuiltInFormat.MARKDOWN;
+import static org.tabletest.reporter.support.GrammarOutput.configuration;
+import static org.tabletest.reporter.support.GrammarOutput.outputFor;
+
+@DisplayName("Table pagination")
+class TablePaginationTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("Splits a table into pages of at most the configured rows")
+    @Description("""
+        A table backed by a large source, such as a CSV file of many thousands of rows, would
+        otherwise become one page that a browser struggles to open. With a page size set, a table
+        holding more rows continues on further pages, the last one holding what remains. Without
+        one, every table keeps a single page.
+        """)
+    @TableTest("""
+        Scenario             | Rows | Rows per page | Page sizes?
+        No page size         | 250  | 0             | [250]
+        Fits on one page     | 100  | 100           | [100]
+        Splits evenly        | 200  | 100           | [100, 100]
+        Last page holds rest | 250  | 100           | [100, 100, 50]
+        Empty table          | 0    | 100           | [0]
+        """)
+    void splitsTablesIntoPages(int rows, int rowsPerPage, List<Integer> pageSizes) {
+        List<TablePage> pages = TablePage.of(table(rows), rowsPerPage);
+
+        assertThat(pages).extracting(page -> page.toRow() - page.fromRow()).isEqualTo(pageSizes);
+    }
+
+    @Test
+    void linksEachPageToItsNeighbours() throws IOException {
+        Path outDir = tempDir.resolve("out");
+
+        reporter(MARKDOWN, 2).report(List.of(outputFor(5, tempDir)), outDir);
+
+        String first = Files.readString(outDir.resolve("parser-test/grammar.md"));
+        String middle = Files.readString(outDir.resolve("parser-test/grammar.page-2.md"));
+        String last = Files.readString(outDir.resolve("parser-test/grammar.page-3.md"));
+        assertThat(first).contains("row-1", "row-2", "[Next](./grammar.page-2.md)").doesNotContain("row-3");
+        assertThat(middle)
+                .contains("Rows 3–4 of 5", "[Previous](./grammar.md)", "[Next](./grammar.page-3.md)")
+                .doesNotContain("row-2", "row-5");
+        assertThat(last).contains("row-5", "[Previous](./grammar.page-2.md)").doesNotContain("[Next]");
+    }
+
+    @Test
+    void pointsSearchEntriesAtThePageHoldingTheRow() throws IOException {
+        Path outDir = tempDir.resolve("out");
+
+        reporter(HTML, 2).report(List.of(outputFor(5, tempDir)), outDir);
+
+        String searchIndex = Files.readString(outDir.resolve(SearchIndex.ASSET_NAME));
+        assertThat(searchIndex)
+                .containsPattern("\"parser-test/grammar\\.page-3\\.html\"[^}]*row-5")
+                .doesNotContainPattern("\"parser-test/grammar\\.page-3\\.html\"[^}]*row-4");
+    }
+
+    @Test
+    void keepsAShortTableOnOnePage() throws IOException {
+        Path outDir = tempDir.resolve("out");
+
+        reporter(MARKDOWN, 10).report(List.of(outputFor(5, tempDir)), outDir);
+
+        assertThat(Files.readString(outDir.resolve("parser-test/grammar.md"))).doesNotContain("Rows 1–5");
+        assertThat(outDir.resolve("parser-test/grammar.page-2.md")).doesNotExist();
+    }
+
+    @DisplayName("Lays out only the rows in view of a page holding more rows than the limit")
+    @Description("""
+        A table can also stay on one page without the browser laying out every row. An HTML table
+        page of more rows than the limit carries its rows as data and lays out only those in view.
+        The limit counts the rows of each page, so it combines with a page size. Without one, every
+        row is laid out.
+        """)
+    @TableTest("""
+        Scenario                    | Rows | Rows per page | Virtualize above | Pages laid out in view only?
+        No limit                    | 70   | 0             | 0                | [false]
+        Within the limit            | 60   | 0             | 60               | [false]
+        Past the limit              | 61   | 0             | 60               | [true]
+        Each page against the limit | 70   | 40            | 30               | [true, false]
+        """)
+    void virtualizesPagesOfMoreRowsThanTheLimit(
+            int rows, int rowsPerPage, int virtualizeAbove, List<Boolean> virtualPages) throws IOException {
+        Path outDir = tempDir.resolve("out");
+
+        reporter(HTML, rowsPerPage, virtualizeAbove).report(List.of(outputFor(rows, tempDir)), outDir);
+
+        List<Boolean> virtual = IntStream.rangeClosed(1, virtualPages.size())
+                .mapToObj(page -> outDir.resolve("parser-test/grammar" + (page == 1 ? "" : ".page-" + page) + ".html"))
+                .map(page -> !htmlOf(page).select(".table-wrap.virtual").isEmpty())
+                .toList();
+        assertThat(virtual).isEqualTo(virtualPages);
+    }
+
+    @Test
+    void shipsEveryRowAsDataAndLaysOutTheFirst() throws IOException {
+        Path outDir = tempDir.resolve("out");
+
+        reporter(HTML, 0, 10).report(List.of(outputFor(70, tempDir)), outDir);
+
+        Document page = htmlOf(outDir.resolve("parser-test/grammar.html"));
+        assertThat(page.select(".table-wrap.virtual tbody tr")).hasSize(50);
+        String rows = page.select("script#table-rows").html();
+        assertThat(rows)
+                .startsWith("[[0,\"<td class=\\\"cell\\\"><span class=\\\"literal\\\">row-1<\\/span><\\/td>\"]")
+                .endsWith("row-70<\\/span><\\/td>\"]]")
+                .doesNotContain("</");
+        assertThat(rows.split("\\],\\[")).hasSize(70);
+    }
+
+    // --- helpers ---
+
+    private static Document htmlOf(Path page) {
+        try {
+            return HtmlValidator.parse(Files.readString(page));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static TableNode table(int rows) {
+        List<List<Map<String, Object>>> cells = IntStream.range(0, rows)
+                .mapToObj(row -> List.<Map<String, Object>>of(Map.of("value", "row-" + row)))
+                .toList();
+        return new TableNode("grammar", "parser-test/grammar", Map.of("rows", cells));
+    }
+
+    private static TableTestReporter reporter(Format format, int rowsPerPage) {
+        return reporter(format, rowsPerPage, 0);
+    }
+
+    private static TableTestReporter reporter(Format format, int rowsPerPage, int virtualizeAbove) {
+        return new TableTestReporter(
+                configuration(format).withRowsPerPage(rowsPerPage).withVirtualizeAbove(virtualizeAbove));
+    }
+}
@@ -7,13 +7,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.tabletest.junit.Description;
 import org.tabletest.junit.TableTest;
+import org.tabletest.reporter.IndexDepth;
+import org.tabletest.reporter.PublishSelection;
+import org.tabletest.reporter.ReportConfiguration;
+import org.tabletest.reporter.SpecMetadata;
+import org.tabletest.reporter.TableTestReporter;
 import org.tabletest.reporter.support.HtmlValidator;
 import org.tabletest.reporter.support.PublishedReport;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Base64;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -182,12 +192,43 @@ class SingleFileRenderingTest {
         assertThat(doc.select("section.failures > h6").text()).contains("Broken scenarios");
     }
 
+    /**
+     * Conformance rather than a rule: what a compressed single-file report defers is decoded by the
+     * browser, so this checks only that the packed text is the markup the section would have held.
+     */
+    @Test
+    void packs_each_table_and_the_search_index_when_compressing_sections() throws IOException {
+        Path outDir = Files.createTempDirectory(workingDir, "out");
+        new TableTestReporter(new ReportConfiguration(
+                                HTML, null, IndexDepth.DEFAULT, true, SpecMetadata.EMPTY, PublishSelection.EMPTY)
+                        .withCompressSections(true))
+                .report(List.of(failingFixture()), outDir);
+        Document doc = HtmlValidator.parse(Files.readString(outDir.resolve("index.html")));
+
+        assertThat(doc.select("table")).isEmpty();
+        assertThat(doc.select("section.report-section.table.failed p.verdict.fail").text())
+                .contains("1 of 2 scenarios broken");
+        Element packed = doc.selectFirst("section.report-section.table.failed .packed-table");
+        assertThat(packed.select("button").text()).isEqualTo("Show 2 rows");
+        Document unpacked = HtmlValidator.parse(unpack(packed.attr("data-packed")));
+        assertThat(unpacked.select("tr.failed-row")).isNotEmpty();
+        assertThat(unpacked.select("section.failures > h6").text()).contains("Broken scenarios");
+        assertThat(doc.select("script").html()).contains("window.TableTestSearchIndexPacked = \"");
+        assertThat(doc.select("script").html()).contains("\"DecompressionStream\" in window", ".catch(");
+    }
+
     private Path generateFrom(Path inDir) throws IOException {
         Path outDir = Files.createTempDirectory(workingDir, "out");
-        new org.tabletest.reporter.TableTestReporter().report(HTML, inDir, outDir, true);
+        new TableTestReporter().report(HTML, inDir, outDir, true);
         return outDir.resolve("index.html");
     }
 
+    private static String unpack(String packed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(packed)))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
     /** A tree deep enough to clamp the heading, with a table holding one broken scenario. */
     private Path failingFixture() throws IOException {
         Path inDir = Files.createDirectories(workingDir.resolve("in-failing"));
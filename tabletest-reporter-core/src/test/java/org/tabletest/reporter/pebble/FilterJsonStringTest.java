@@ -0,0 +1,29 @@
+package org.tabletest.reporter.pebble;
+
+import org.junit.jupiter.api.Test;
+import org.tabletest.junit.TableTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterJsonStringTest {
+
+    @TableTest("""
+        Scenario                          | Text            | JSON string?
+        Plain text                        | row-1           | '"row-1"'
+        Quotes and backslashes            | 'say "a\\b"'    | '"say \\"a\\\\b\\""'
+        A closing tag cannot end a script | '<td>2004</td>' | '"<td>2004<\\/td>"'
+        A comment cannot open in a script | '<!-- x -->'    | '"\\u003c!-- x -->"'
+        No value                          |                 | 'null'
+        """)
+    void writesTextAsAJsonStringSafeInAScript(String text, String jsonString) {
+        assertThat(new FilterJsonString().apply(text, Map.of(), null, null, 0)).isEqualTo(jsonString);
+    }
+
+    @Test
+    void escapesControlCharactersAndLineSeparators() {
+        assertThat(FilterJsonString.jsonString("a\nb\tc\u0001d\u2028e\u2029"))
+                .isEqualTo("\"a\\nb\\tc\\u0001d\\u2028e\\u2029\"");
+    }
+}
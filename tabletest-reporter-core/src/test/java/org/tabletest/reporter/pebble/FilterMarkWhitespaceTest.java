@@ -0,0 +1,44 @@
+package org.tabletest.reporter.pebble;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Unpublished: internal mechanism (Pebble template filter), not a user-facing rule.
+class FilterMarkWhitespaceTest {
+
+    @Test
+    void returns_a_value_with_nothing_to_mark_as_it_is() {
+        String value = "plain words only";
+
+        assertThat(markWhitespace(value)).isSameAs(value);
+    }
+
+    @Test
+    void leaves_single_spaces_between_words_unmarked() {
+        assertThat(markWhitespace("a bc  def")).isEqualTo("a bc<span class=\"sp\">  </span>def");
+    }
+
+    @Test
+    void marks_each_tab_on_its_own() {
+        assertThat(markWhitespace("a\t\tb")).isEqualTo("a<span class=\"tab\">\t</span><span class=\"tab\">\t</span>b");
+    }
+
+    @Test
+    void marks_runs_at_line_boundaries_and_flags_trailing_ones() {
+        assertThat(markWhitespace(" a \nb"))
+                .isEqualTo("<span class=\"sp\"> </span>a<span class=\"sp trailing\"> </span>\nb");
+    }
+
+    @Test
+    void escapes_html_around_marked_runs() {
+        assertThat(markWhitespace("<a>  \"&'"))
+                .isEqualTo("&lt;a&gt;<span class=\"sp\">  </span>&quot;&amp;&#39;");
+    }
+
+    private static Object markWhitespace(String value) {
+        return new FilterMarkWhitespace().apply(value, Map.of(), null, null, 0);
+    }
+}
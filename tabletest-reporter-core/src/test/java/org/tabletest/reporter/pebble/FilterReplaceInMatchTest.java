@@ -37,9 +37,26 @@ class FilterReplaceInMatchTest {
         """)
     void should_encode_explicit_whitespace(String input, String pattern, String replacements, String expected)
             throws IOException {
+        assertThat(render(input, pattern, replacements)).isEqualTo(expected);
+    }
+
+    @TableTest("""
+        Scenario                    | Input     | Pattern              | Result?
+        Lone space between matches  | 'a| |b'   | '(^ +)|( +$)|([|]+)' | a&pipe;&spc;&pipe;b
+        Word between matches        | 'a| x |b' | '(^ +)|( +$)|([|]+)' | a&pipe; x &pipe;b
+        Spaces around a single word | ' x '     | '(^ +)|( +$)|([|]+)' | &spc;x&spc;
+        """)
+    void should_encode_text_between_matches_that_matches_on_its_own(String input, String pattern, String expected)
+            throws IOException {
+        assertThat(render(input, pattern, "{'[|]': '&pipe;', ' ': '&spc;'}")).isEqualTo(expected);
+    }
+
+    // --- helpers ---
+
+    private static String render(String input, String pattern, String replacements) throws IOException {
         StringWriter writer = new StringWriter();
         ENGINE.getTemplate("{{ '%s' | replaceInMatch('%s', %s) | raw }}".formatted(input, pattern, replacements))
                 .evaluate(writer);
-        assertThat(writer.toString()).isEqualTo(expected);
+        return writer.toString();
     }
 }
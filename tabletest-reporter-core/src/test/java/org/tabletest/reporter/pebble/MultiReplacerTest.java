@@ -0,0 +1,40 @@
+package org.tabletest.reporter.pebble;
+
+import org.junit.jupiter.api.Test;
+import org.tabletest.junit.TableTest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Unpublished: internal mechanism (Pebble template filter), not a user-facing rule.
+class MultiReplacerTest {
+
+    @TableTest("""
+        Scenario                                  | Regexes       | Replacements     | Text      | Result?
+        Each pair at its own matches              | ['\\+', ' ']  | ['&#43;', '_']   | 'a + b'   | 'a_&#43;_b'
+        Replaced text is not scanned again        | [a, b]        | [b, c]           | ab        | bc
+        The first declared pair wins at one place | [ab, a]       | [X, Y]           | aba       | XY
+        An escaped replacement stands for itself  | ['\\|']       | ['\\\\|']        | 'a|b'     | 'a\\|b'
+        A group reference is resolved             | ['(a+)']      | ['[$1]']         | baab      | 'b[aa]b'
+        Pairs with a group apply in turn          | ['(a)', b]    | ['$1b', c]       | ab        | acc
+        No match leaves the text unchanged        | ['\t']        | ['&tab;']        | plain     | plain
+        """)
+    void replacesEveryMatchOfEachPair(List<String> regexes, List<String> replacements, String text, String result) {
+        Map<String, String> pairs = new LinkedHashMap<>();
+        for (int pair = 0; pair < regexes.size(); pair++) {
+            pairs.put(regexes.get(pair), replacements.get(pair));
+        }
+
+        assertThat(CompiledPatterns.replacer(pairs).replace(text)).isEqualTo(result);
+    }
+
+    @Test
+    void compilesTheSamePairsOnce() {
+        Map<String, String> pairs = Map.of(" ", "&spc;");
+
+        assertThat(CompiledPatterns.replacer(pairs)).isSameAs(CompiledPatterns.replacer(Map.of(" ", "&spc;")));
+    }
+}
@@ -63,6 +63,32 @@ class SearchRenderingTest {
         }
     }
 
+    @Test
+    void search_matches_in_a_worker_built_from_the_page_itself() throws IOException {
+        Document table = parse(generateReport().resolve("calendar-calculations").resolve("leap-year-rules.html"));
+
+        assertThat(table.select("script[src]")).hasSize(1);
+        assertThat(table.select("script").html())
+                .contains("URL.createObjectURL(new Blob(")
+                .contains("new Worker(")
+                .contains("new TableTestMatcher()");
+    }
+
+    @Test
+    void search_brings_the_matcher_it_runs_on_ahead_of_itself() throws IOException {
+        Path outDir = generateReport();
+
+        for (Path page : new Path[] {
+            outDir.resolve("index.html"),
+            outDir.resolve("calendar-calculations").resolve("leap-year-rules.html")
+        }) {
+            String scripts = parse(page).select("script").html();
+            assertThat(scripts.indexOf("window.TableTestMatcher = TableTestMatcher"))
+                    .isNotNegative()
+                    .isLessThan(scripts.indexOf("new TableTestMatcher()"));
+        }
+    }
+
     private static Document parse(Path page) throws IOException {
         return HtmlValidator.parse(Files.readString(page));
     }
@@ -0,0 +1,75 @@
+package org.tabletest.reporter.support;
+
+import org.tabletest.reporter.Format;
+import org.tabletest.reporter.IndexDepth;
+import org.tabletest.reporter.PublishSelection;
+import org.tabletest.reporter.ReportConfiguration;
+import org.tabletest.reporter.SpecMetadata;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * The smallest output a report can be built from, for tests about how a report is written rather
+ * than what it shows: one class, {@code org.example.ParserTest}, publishing one table, its
+ * {@code grammar}, of a single {@code Input} column. The pages land at {@code parser-test/grammar}
+ * in every format.
+ *
+ * <p>Public because the tests built on it live in more than one test package.
+ */
+public final class GrammarOutput {
+
+    private GrammarOutput() {}
+
+    /**
+     * Writes the output under {@code workingDir/junit-jupiter}, one row per input, and returns that
+     * directory. Writing again replaces the table, so a test can rewrite the output it reported from.
+     */
+    public static Path outputFor(List<String> inputs, Path workingDir) {
+        try {
+            Path inDir = Files.createDirectories(workingDir.resolve("junit-jupiter"));
+            Path classDir = Files.createDirectories(inDir.resolve("org.example.ParserTest"));
+            Files.writeString(classDir.resolve("TABLETEST-parser-test.yaml"), """
+                    "className": "org.example.ParserTest"
+                    "slug": "parser-test"
+                    "title": "Parser Test"
+                    "tableTests":
+                      - "path": "rule(String)/TABLETEST-grammar.yaml"
+                        "methodName": "rule"
+                        "slug": "grammar"
+                    """);
+            Path tableDir = Files.createDirectories(classDir.resolve("rule(String)"));
+            StringBuilder table = new StringBuilder("""
+                    "title": "Grammar"
+                    "headers":
+                      - "value": "Input"
+                    "rows":
+                    """);
+            inputs.forEach(input -> table.append("  - - \"value\": \"").append(input).append("\"\n"));
+            Files.writeString(tableDir.resolve("TABLETEST-grammar.yaml"), table);
+            return inDir;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Writes the output with the given number of rows, reading {@code row-1}, {@code row-2} and on. */
+    public static Path outputFor(int rows, Path workingDir) {
+        return outputFor(IntStream.rangeClosed(1, rows).mapToObj(row -> "row-" + row).toList(), workingDir);
+    }
+
+    /** A configuration rendering the given format with every other option at its default. */
+    public static ReportConfiguration configuration(Format format) {
+        return configuration(format, null);
+    }
+
+    /** A configuration rendering the given format from the templates in the given directory. */
+    public static ReportConfiguration configuration(Format format, Path templateDirectory) {
+        return new ReportConfiguration(
+                format, templateDirectory, IndexDepth.DEFAULT, false, SpecMetadata.EMPTY, PublishSelection.EMPTY);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.gradle;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.tabletest.reporter.ReportConfiguration;
+import org.tabletest.reporter.ReportConfigurationResolver;
+import org.tabletest.reporter.ReportOptions;
+import org.tabletest.reporter.ReportResult;
+import org.tabletest.reporter.TableTestReporter;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The report generation {@link ReportTableTestsTask} hands to the Worker API. The task resolves
+ * which directories to read and validates the options before submitting, so the action only
+ * renders, bringing the pages of an earlier run up to date. Its parameters are plain values and
+ * files, which lets it run in an isolated class loader or a separate worker process.
+ */
+public abstract class GenerateReportAction implements WorkAction<GenerateReportAction.Parameters> {
+
+    private static final Logger LOGGER = Logging.getLogger(GenerateReportAction.class);
+
+    /**
+     * Creates a new action instance; Gradle instantiates one per submitted work item.
+     */
+    public GenerateReportAction() {}
+
+    /**
+     * The resolved inputs of one report run.
+     */
+    public interface Parameters extends WorkParameters {
+
+        /**
+         * Returns the directories to report from, in declared order.
+         *
+         * @return the input directories
+         */
+        ConfigurableFileCollection getInputDirs();
+
+        /**
+         * Returns the directory the report is written to.
+         *
+         * @return the output directory
+         */
+        DirectoryProperty getOutputDir();
+
+        /**
+         * Returns the requested output format.
+         *
+         * @return the format name, or unset for the default
+         */
+        Property<String> getFormat();
+
+        /**
+         * Returns the custom template directory.
+         *
+         * @return the template directory, or unset for the built-in templates
+         */
+        DirectoryProperty getTemplateDir();
+
+        /**
+         * Returns the requested index depth.
+         *
+         * @return the index depth, or unset for the default
+         */
+        Property<String> getIndexDepth();
+
+        /**
+         * Returns the report configuration file.
+         *
+         * @return the tabletest-reporter.yaml file, or unset when none applies
+         */
+        RegularFileProperty getConfigFile();
+
+        /**
+         * Returns the generation time to state in the report.
+         *
+         * @return the generation time, or unset for the time of the run
+         */
+        Property<String> getGeneratedAt();
+
+        /**
+         * Returns the number of rows on each page of a table.
+         *
+         * @return the page size, or unset to keep every table on one page
+         */
+        Property<Integer> getRowsPerPage();
+
+        /**
+         * Returns the most rows an HTML table page lays out at once.
+         *
+         * @return the row limit, or unset to lay out every row
+         */
+        Property<Integer> getVirtualizeAbove();
+
+        /**
+         * Returns the file recording what each page was rendered from. Without the file, every
+         * page is rendered.
+         *
+         * @return the page record
+         */
+        RegularFileProperty getPageRecord();
+    }
+
+    /**
+     * Generates the report. Runs after the task action has returned, so a failure is reported
+     * from here, with the message of the failure that caused it.
+     *
+     * @throws GradleException if the report generation fails
+     */
+    @Override
+    public void execute() {
+        try {
+            generate(getParameters());
+        } catch (RuntimeException e) {
+            throw new GradleException("Failed to generate TableTest report: " + rootMessage(e), e);
+        }
+    }
+
+    private static void generate(Parameters parameters) {
+        ReportConfiguration config = ReportConfigurationResolver.resolve(new ReportOptions(
+                parameters.getFormat().getOrNull(),
+                toPath(parameters.getTemplateDir()),
+                parameters.getIndexDepth().getOrNull(),
+                null,
+                parameters.getConfigFile().isPresent()
+                        ? parameters.getConfigFile().get().getAsFile().toPath()
+                        : null,
+                parameters.getGeneratedAt().getOrNull(),
+                parameters.getRowsPerPage().getOrNull(),
+                null,
+                null,
+                null,
+                parameters.getVirtualizeAbove().getOrNull()));
+        List<Path> in =
+                parameters.getInputDirs().getFiles().stream().map(File::toPath).toList();
+        Path out = parameters.getOutputDir().get().getAsFile().toPath();
+
+        Path pageRecord = parameters.getPageRecord().get().getAsFile().toPath();
+
+        logResult(new TableTestReporter(config).update(in, out, pageRecord));
+    }
+
+    /** The message of the failure the reporter raised, rather than that of a wrapper around it. */
+    private static String rootMessage(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private static Path toPath(DirectoryProperty property) {
+        return property.isPresent() ? property.get().getAsFile().toPath() : null;
+    }
+
+    private static void logResult(ReportResult result) {
+        if (result.message() != null) {
+            LOGGER.warn(result.message());
+        } else {
+            LOGGER.lifecycle("Generated {} documentation file(s)", result.filesGenerated());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.gradle;
+
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * A build-wide bound on how many {@link ReportTableTestsTask}s generate at once. The service holds
+ * no state: every report task uses it, and Gradle lets no more tasks use it at the same time than
+ * the {@value TableTestReporterPlugin#MAX_PARALLEL_REPORTS_PROPERTY} Gradle property allows. Without
+ * the property, the reports of parallel subprojects are bounded only by Gradle's own worker limit.
+ */
+public abstract class ReportGenerationLimit implements BuildService<BuildServiceParameters.None> {
+
+    /**
+     * Creates the service; Gradle instantiates it once per build.
+     */
+    public ReportGenerationLimit() {}
+}
@@ -26,19 +26,24 @@ import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.model.ObjectFactory;
 import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.*;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.work.NormalizeLineEndings;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
 import org.jetbrains.annotations.Nullable;
 import org.tabletest.reporter.InputDirectories;
 import org.tabletest.reporter.InputDirectoryResolver;
 import org.tabletest.reporter.JunitDirParser;
 import org.tabletest.reporter.JunitPropertiesReader;
-import org.tabletest.reporter.ReportConfiguration;
 import org.tabletest.reporter.ReportConfigurationResolver;
 import org.tabletest.reporter.ReportOptions;
-import org.tabletest.reporter.ReportResult;
-import org.tabletest.reporter.TableTestReporter;
 
 import javax.inject.Inject;
 
+import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -51,10 +56,24 @@ import java.util.concurrent.Callable;
  * <p>
  * Reads YAML files produced by the TableTest JUnit extension and generates
  * human-readable documentation in AsciiDoc or Markdown format.
+ * <p>
+ * The task resolves its inputs and validates its options itself, then hands the generation to
+ * the Worker API as a {@link GenerateReportAction}, isolated from the build's own classes as
+ * {@link #getIsolation()} chooses. Only the {@code TABLETEST-*.yaml} files are inputs, with
+ * relative paths and normalised line endings, so unrelated YAML beside them does not invalidate
+ * the report and a report built on another machine can come from the build cache.
+ * <p>
+ * The task is incremental. When only YAML files changed since the last run, the reporter renders
+ * just the pages whose model changed — a rerun table, the pages listing it, and every page when
+ * the navigation they share changed — and deletes the pages of removed tests. A change to any
+ * other input, such as the format, templates or configuration file, renders the whole report.
  */
 @CacheableTask
 public abstract class ReportTableTestsTask extends DefaultTask {
 
+    /** What each page was rendered from, kept between runs as the task's local state. */
+    private static final String PAGE_RECORD = "pages.digest";
+
     private final ObjectFactory objects;
     private final Property<String> format;
     private final DirectoryProperty inputDir;
@@ -64,10 +83,14 @@ public abstract class ReportTableTestsTask extends DefaultTask {
     private final Property<String> junitOutputDir;
     private final Property<String> indexDepth;
     private final RegularFileProperty configFile;
+    private final Property<String> generatedAt;
+    private final Property<Integer> rowsPerPage;
+    private final Property<Integer> virtualizeAbove;
     private final DirectoryProperty projectDir;
     private final DirectoryProperty defaultInputDir;
     private final ConfigurableFileCollection sourceYamlFiles;
     private final ConfigurableFileCollection configFileInput;
+    private final Property<String> isolation;
 
     /**
      * Creates a new task instance with default configuration.
@@ -83,12 +106,16 @@ public abstract class ReportTableTestsTask extends DefaultTask {
         this.junitOutputDir = objects.property(String.class);
         this.indexDepth = objects.property(String.class);
         this.configFile = objects.fileProperty();
+        this.generatedAt = objects.property(String.class);
+        this.rowsPerPage = objects.property(Integer.class);
+        this.virtualizeAbove = objects.property(Integer.class);
         this.projectDir = objects.directoryProperty();
         this.defaultInputDir = objects.directoryProperty();
         this.sourceYamlFiles = objects.fileCollection();
         this.sourceYamlFiles.from((Callable<List<FileTree>>) this::candidateYamlTrees);
         this.configFileInput = objects.fileCollection();
-        this.configFileInput.from((Callable<List<java.io.File>>) this::existingConfigFile);
+        this.configFileInput.from((Callable<List<File>>) this::existingConfigFile);
+        this.isolation = objects.property(String.class);
         setGroup("documentation");
         setDescription("Generates AsciiDoc or Markdown documentation from TableTest YAML outputs");
     }
@@ -105,13 +132,12 @@ public abstract class ReportTableTestsTask extends DefaultTask {
     }
 
     /**
-     * Returns the input directory property.
+     * Returns the input directory property. The TableTest YAML files it holds are tracked through
+     * {@link #getSourceYamlFiles()}, not the directory as a whole.
      *
      * @return property for directory containing TableTest YAML files
      */
-    @org.gradle.api.tasks.Optional
-    @InputDirectory
-    @PathSensitive(PathSensitivity.RELATIVE)
+    @Internal
     public DirectoryProperty getInputDir() {
         return inputDir;
     }
@@ -147,6 +173,8 @@ public abstract class ReportTableTestsTask extends DefaultTask {
     @org.gradle.api.tasks.Optional
     @InputDirectory
     @PathSensitive(PathSensitivity.RELATIVE)
+    @IgnoreEmptyDirectories
+    @NormalizeLineEndings
     public DirectoryProperty getTemplateDir() {
         return templateDir;
     }
@@ -173,6 +201,43 @@ public abstract class ReportTableTestsTask extends DefaultTask {
         return indexDepth;
     }
 
+    /**
+     * Returns the generation time property. An input, so a fixed time keeps the cached report valid
+     * and a changed one regenerates it.
+     *
+     * @return property for the generation time stated in the report, as an ISO-8601 instant or seconds
+     *     since the epoch; unset states the time of the run
+     */
+    @org.gradle.api.tasks.Optional
+    @Input
+    public Property<String> getGeneratedAt() {
+        return generatedAt;
+    }
+
+    /**
+     * Returns the page size property for large tables.
+     *
+     * @return property for the number of rows on each page of a table; unset or 0 keeps every table
+     *     on one page
+     */
+    @org.gradle.api.tasks.Optional
+    @Input
+    public Property<Integer> getRowsPerPage() {
+        return rowsPerPage;
+    }
+
+    /**
+     * Returns the row limit for laying out HTML tables whole.
+     *
+     * @return property for the most rows an HTML table page lays out at once; unset or 0 lays out
+     *     every row
+     */
+    @org.gradle.api.tasks.Optional
+    @Input
+    public Property<Integer> getVirtualizeAbove() {
+        return virtualizeAbove;
+    }
+
     /**
      * Returns the report configuration file property.
      *
@@ -194,6 +259,7 @@ public abstract class ReportTableTestsTask extends DefaultTask {
     @org.gradle.api.tasks.Optional
     @InputFiles
     @PathSensitive(PathSensitivity.RELATIVE)
+    @NormalizeLineEndings
     public FileCollection getConfigFileInput() {
         return configFileInput;
     }
@@ -226,23 +292,61 @@ public abstract class ReportTableTestsTask extends DefaultTask {
      * @return file collection of the YAML files the report is generated from
      */
     @InputFiles
+    @Incremental
     @PathSensitive(PathSensitivity.RELATIVE)
+    @IgnoreEmptyDirectories
+    @NormalizeLineEndings
     public FileCollection getSourceYamlFiles() {
         return sourceYamlFiles;
     }
 
+    /**
+     * Returns the worker isolation property: {@code none} generates in the build's own class
+     * loader, {@code classloader} in an isolated one, {@code process} in a separate worker process.
+     * The report is the same in every mode, so the choice is not an input.
+     *
+     * @return property for the isolation the report is generated in
+     */
+    @Internal
+    public Property<String> getIsolation() {
+        return isolation;
+    }
+
+    /**
+     * Returns the file recording what each page was rendered from, which lets the next run update
+     * only the pages that changed. Local state, so Gradle removes it when the report comes from the
+     * build cache and the pages it describes were not rendered here.
+     *
+     * @return the page record in the task's temporary directory
+     */
+    @LocalState
+    public File getPageRecord() {
+        return new File(getTemporaryDir(), PAGE_RECORD);
+    }
+
+    /**
+     * Returns the executor the report generation is submitted to.
+     *
+     * @return the Gradle worker executor
+     */
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
     private List<FileTree> candidateYamlTrees() {
         return candidateInputDirectories().stream().map(this::yamlTreeAt).toList();
     }
 
     /**
-     * The directories the input resolution may read YAML from when no explicit input directory
-     * is configured: the JUnit output directory override, the directory named in
-     * junit-platform.properties, and the default build/junit-jupiter directory. An explicitly
-     * configured input directory is tracked separately through {@link #getInputDir()}.
+     * The directories the input resolution may read YAML from: the configured input directories,
+     * the JUnit output directory override, the directory named in junit-platform.properties, and
+     * the default build/junit-jupiter directory.
      */
     private List<Path> candidateInputDirectories() {
         List<Path> candidates = new ArrayList<>(configuredInputDirectories());
+        Path configuredInput = toPath(inputDir);
+        if (configuredInput != null) {
+            candidates.add(configuredInput);
+        }
         Path baseDir = toPath(projectDir);
         if (baseDir != null) {
             JunitDirParser.parse(baseDir, junitOutputDir.getOrNull()).ifPresent(candidates::add);
@@ -257,10 +361,10 @@ public abstract class ReportTableTestsTask extends DefaultTask {
 
     /** The explicitly configured multi-directory input, empty when the task reports from a single directory. */
     private List<Path> configuredInputDirectories() {
-        return inputDirs.getFiles().stream().map(java.io.File::toPath).toList();
+        return inputDirs.getFiles().stream().map(File::toPath).toList();
     }
 
-    private List<java.io.File> existingConfigFile() {
+    private List<File> existingConfigFile() {
         Path path = resolvedConfigFile();
         return path != null && Files.isRegularFile(path) ? List.of(path.toFile()) : List.of();
     }
@@ -274,17 +378,21 @@ public abstract class ReportTableTestsTask extends DefaultTask {
     private FileTree yamlTreeAt(Path directory) {
         ConfigurableFileTree tree = objects.fileTree();
         tree.setDir(directory.toFile());
-        tree.include("**/*.yaml");
+        tree.include("**/TABLETEST-*.yaml");
         return tree;
     }
 
     /**
-     * Executes the task to generate documentation from TableTest YAML files.
+     * Executes the task to generate documentation from TableTest YAML files. Returns once the
+     * generation is submitted; Gradle completes the task when the work finishes, and a failure of
+     * the work fails the task.
      *
-     * @throws GradleException if input directory does not exist or report generation fails
+     * @param inputChanges the changes since the last run, which decide between updating the
+     *     report and generating it whole
+     * @throws GradleException if input directory does not exist or an option is invalid
      */
     @TaskAction
-    public void run() {
+    public void run(InputChanges inputChanges) {
         final Path defaultInput = defaultInputDir.get().getAsFile().toPath();
         final Path configuredInput = Optional.ofNullable(toPath(inputDir))
                 .filter(path -> !isSamePath(path, defaultInput))
@@ -297,15 +405,64 @@ public abstract class ReportTableTestsTask extends DefaultTask {
 
         List<Path> in = resolveInputDirectories(configuredInput, defaultInput, baseDir, junitDir);
 
-        ReportConfiguration config = ReportConfigurationResolver.resolve(new ReportOptions(
-                format.getOrNull(), toPath(templateDir), indexDepth.getOrNull(), null, resolvedConfigFile()));
+        // Validate here, so a bad option fails the task with its own message before any work is queued
+        ReportConfigurationResolver.resolve(new ReportOptions(
+                format.getOrNull(),
+                toPath(templateDir),
+                indexDepth.getOrNull(),
+                null,
+                resolvedConfigFile(),
+                generatedAt.getOrNull(),
+                rowsPerPage.getOrNull(),
+                null,
+                null,
+                null,
+                virtualizeAbove.getOrNull()));
+
+        File pageRecord = getPageRecord();
+        if (inputChanges.isIncremental()) {
+            logSourceChanges(inputChanges.getFileChanges(sourceYamlFiles));
+        } else if (pageRecord.exists() && !pageRecord.delete()) {
+            throw new GradleException("Failed to delete " + pageRecord + " to generate the whole report");
+        }
 
-        try {
-            ReportResult result = new TableTestReporter(config).report(in, out);
-            logResult(result);
-        } catch (Exception e) {
-            throw new GradleException("Failed to generate TableTest report: " + e.getMessage(), e);
+        workQueue().submit(GenerateReportAction.class, parameters -> {
+            parameters.getInputDirs().from(in.stream().map(Path::toFile).toList());
+            parameters.getOutputDir().set(out.toFile());
+            parameters.getFormat().set(format);
+            parameters.getTemplateDir().set(templateDir);
+            parameters.getIndexDepth().set(indexDepth);
+            parameters.getConfigFile().set(existingConfigFile().stream().findFirst().orElse(null));
+            parameters.getGeneratedAt().set(generatedAt);
+            parameters.getRowsPerPage().set(rowsPerPage);
+            parameters.getVirtualizeAbove().set(virtualizeAbove);
+            parameters.getPageRecord().set(pageRecord);
+        });
+    }
+
+    private void logSourceChanges(Iterable<FileChange> changes) {
+        int changed = 0;
+        int removed = 0;
+        for (FileChange change : changes) {
+            if (change.getChangeType() == ChangeType.REMOVED) {
+                removed++;
+            } else {
+                changed++;
+            }
         }
+        getLogger().info("Updating TableTest report: {} YAML file(s) added or changed, {} removed", changed, removed);
+    }
+
+    private WorkQueue workQueue() {
+        String mode = isolation.getOrElse("classloader");
+        return switch (mode) {
+            case "none" -> getWorkerExecutor().noIsolation();
+            case "classloader" -> getWorkerExecutor().classLoaderIsolation();
+            case "process" -> getWorkerExecutor().processIsolation();
+            default ->
+                throw new GradleException(
+                        "Unknown isolation '" + mode + "': expected one of none, classloader, process");
+        };
     }
 
     private @Nullable Path toPath(DirectoryProperty property) {
@@ -344,14 +501,6 @@ public abstract class ReportTableTestsTask extends DefaultTask {
                 .orElseThrow(() -> new GradleException(inputResult.formatMissingInputMessage()));
     }
 
-    private void logResult(ReportResult result) {
-        if (result.filesGenerated() == 0) {
-            getLogger().warn(result.message());
-        } else {
-            getLogger().lifecycle("Generated {} documentation file(s)", result.filesGenerated());
-        }
-    }
-
     private static boolean isSamePath(Path left, Path right) {
         return left.toAbsolutePath().normalize().equals(right.toAbsolutePath().normalize());
     }
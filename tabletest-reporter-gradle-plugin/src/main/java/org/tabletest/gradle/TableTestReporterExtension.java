@@ -37,6 +37,10 @@ public abstract class TableTestReporterExtension {
     private final DirectoryProperty templateDir;
     private final Property<String> indexDepth;
     private final RegularFileProperty configFile;
+    private final Property<String> generatedAt;
+    private final Property<Integer> rowsPerPage;
+    private final Property<Integer> virtualizeAbove;
+    private final Property<String> isolation;
 
     /**
      * Creates a new extension instance with default configuration values.
@@ -56,6 +60,11 @@ public abstract class TableTestReporterExtension {
         this.indexDepth = objects.property(String.class).convention("infinite");
         this.configFile =
                 objects.fileProperty().convention(layout.getProjectDirectory().file("tabletest-reporter.yaml"));
+        this.generatedAt =
+                objects.property(String.class).convention(providers.environmentVariable("SOURCE_DATE_EPOCH"));
+        this.rowsPerPage = objects.property(Integer.class).convention(0);
+        this.virtualizeAbove = objects.property(Integer.class).convention(0);
+        this.isolation = objects.property(String.class).convention("classloader");
     }
 
     /**
@@ -122,4 +131,44 @@ public abstract class TableTestReporterExtension {
     public RegularFileProperty getConfigFile() {
         return configFile;
     }
+
+    /**
+     * Returns the generation time property. Follows {@code SOURCE_DATE_EPOCH} by default.
+     *
+     * @return property for the generation time stated in the report, as an ISO-8601 instant or seconds
+     *     since the epoch; unset states the time of the run
+     */
+    public Property<String> getGeneratedAt() {
+        return generatedAt;
+    }
+
+    /**
+     * Returns the page size property for large tables. A table with more rows is split over pages
+     * linked to each other; 0 (default) keeps every table on one page.
+     *
+     * @return property for the number of rows on each page of a table
+     */
+    public Property<Integer> getRowsPerPage() {
+        return rowsPerPage;
+    }
+
+    /**
+     * Returns the row limit for laying out HTML tables whole. A table page with more rows lays out
+     * only the rows in view as the reader scrolls; 0 (default) lays out every row.
+     *
+     * @return property for the most rows an HTML table page lays out at once
+     */
+    public Property<Integer> getVirtualizeAbove() {
+        return virtualizeAbove;
+    }
+
+    /**
+     * Worker isolation for report generation: {@code none}, {@code classloader} (default) or
+     * {@code process}.
+     *
+     * @return property for the isolation the report is generated in
+     */
+    public Property<String> getIsolation() {
+        return isolation;
+    }
 }
@@ -15,10 +15,12 @@
  */
 package org.tabletest.gradle;
 
+import org.gradle.api.GradleException;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.artifacts.dsl.DependencyHandler;
+import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.testing.Test;
 import org.gradle.process.CommandLineArgumentProvider;
 
@@ -38,6 +40,12 @@ public class TableTestReporterPlugin implements Plugin<Project> {
     private static final String JUNIT_OUTPUT_DIR_PROPERTY = "junit.platform.reporting.output.dir";
     private static final String JUNIT_AUTODETECTION_PROPERTY = "junit.jupiter.extensions.autodetection.enabled";
     private static final String TABLETEST_JUNIT_DEPENDENCY = "org.tabletest:tabletest-reporter-junit";
+    private static final String GENERATION_LIMIT_SERVICE = "tableTestReportGeneration";
+
+    /**
+     * Gradle property bounding how many report tasks generate at the same time across the build.
+     */
+    public static final String MAX_PARALLEL_REPORTS_PROPERTY = "tabletest.reporter.maxParallelReports";
 
     /**
      * Creates a new plugin instance.
@@ -50,6 +58,9 @@ public class TableTestReporterPlugin implements Plugin<Project> {
         TableTestReporterExtension ext =
                 project.getExtensions().create("tableTestReporter", TableTestReporterExtension.class);
 
+        // Share one generation limit between the report tasks of all projects
+        Provider<ReportGenerationLimit> generationLimit = registerGenerationLimit(project);
+
         // Register task and wire conventions from extension
         project.getTasks().register("reportTableTests", ReportTableTestsTask.class, t -> {
             t.getFormat().convention(ext.getFormat());
@@ -60,6 +71,11 @@ public class TableTestReporterPlugin implements Plugin<Project> {
             t.getJunitOutputDir().convention(project.provider(() -> resolveJunitOutputDir(project)));
             t.getIndexDepth().convention(ext.getIndexDepth());
             t.getConfigFile().convention(ext.getConfigFile());
+            t.getGeneratedAt().convention(ext.getGeneratedAt());
+            t.getRowsPerPage().convention(ext.getRowsPerPage());
+            t.getVirtualizeAbove().convention(ext.getVirtualizeAbove());
+            t.getIsolation().convention(ext.getIsolation());
+            t.usesService(generationLimit);
             t.getProjectDir().convention(project.getLayout().getProjectDirectory());
             t.getDefaultInputDir()
                     .convention(project.getLayout().getBuildDirectory().dir("junit-jupiter"));
@@ -77,6 +93,30 @@ public class TableTestReporterPlugin implements Plugin<Project> {
         configureTestTaskAutodetection(project);
     }
 
+    private static Provider<ReportGenerationLimit> registerGenerationLimit(Project project) {
+        Provider<String> maxParallel = project.getProviders().gradleProperty(MAX_PARALLEL_REPORTS_PROPERTY);
+        return project.getGradle()
+                .getSharedServices()
+                .registerIfAbsent(GENERATION_LIMIT_SERVICE, ReportGenerationLimit.class, spec -> {
+                    if (maxParallel.isPresent()) {
+                        spec.getMaxParallelUsages().set(parseMaxParallelReports(maxParallel.get()));
+                    }
+                });
+    }
+
+    private static int parseMaxParallelReports(String value) {
+        try {
+            int max = Integer.parseInt(value.trim());
+            if (max > 0) {
+                return max;
+            }
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        throw new GradleException(
+                "Invalid " + MAX_PARALLEL_REPORTS_PROPERTY + " '" + value + "': expected a positive whole number");
+    }
+
     private static void addTableTestJunitDependency(Project project) {
         String version = loadPluginVersion();
         DependencyHandler dependencies = project.getDependencies();
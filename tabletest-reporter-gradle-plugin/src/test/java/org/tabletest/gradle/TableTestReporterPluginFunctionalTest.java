@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.gradle;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the plugin in a real build, where the report is generated with the default {@code classloader}
+ * isolation the {@link TableTestReporterPluginTest} project cannot start.
+ */
+class TableTestReporterPluginFunctionalTest {
+
+    @TempDir
+    Path projectDir;
+
+    @Test
+    void reportTask_generates_output_in_an_isolated_class_loader() throws IOException {
+        writeBuild("""
+            plugins {
+                id("org.tabletest.reporter")
+            }
+            """);
+        writeTable();
+
+        BuildResult result = runner("reportTableTests").build();
+
+        assertThat(result.task(":reportTableTests").getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(outputDir().resolve("index.adoc")).exists();
+        assertThat(outputDir().resolve("calendar-test/test.adoc")).content().contains("|===");
+    }
+
+    @Test
+    void reportTask_is_up_to_date_when_nothing_changed() throws IOException {
+        writeBuild("""
+            plugins {
+                id("org.tabletest.reporter")
+            }
+            """);
+        writeTable();
+        runner("reportTableTests").build();
+
+        BuildResult result = runner("reportTableTests").build();
+
+        assertThat(result.task(":reportTableTests").getOutcome()).isEqualTo(TaskOutcome.UP_TO_DATE);
+    }
+
+    private GradleRunner runner(String task) {
+        return GradleRunner.create()
+                .withProjectDir(projectDir.toFile())
+                .withPluginClasspath()
+                .withArguments(task, "--stacktrace");
+    }
+
+    private Path outputDir() {
+        return projectDir.resolve("build/generated-docs/tabletest");
+    }
+
+    private void writeBuild(String buildScript) throws IOException {
+        Files.writeString(projectDir.resolve("settings.gradle.kts"), "rootProject.name = \"sample\"\n");
+        Files.writeString(projectDir.resolve("build.gradle.kts"), buildScript);
+    }
+
+    private void writeTable() throws IOException {
+        Path testClassDir = projectDir.resolve("build/junit-jupiter/org.example.CalendarTest");
+        Files.createDirectories(testClassDir);
+        Files.writeString(testClassDir.resolve("TABLETEST-calendar-test.yaml"), """
+            "className": "org.example.CalendarTest"
+            "slug": "calendar-test"
+            "title": "Test Table Class"
+            "tableTests":
+              - "path": "TABLETEST-test.yaml"
+                "methodName": "test"
+                "slug": "test"
+            """);
+        Files.writeString(testClassDir.resolve("TABLETEST-test.yaml"), """
+            "title": "Test Table"
+            "headers":
+            - "value": "Column A"
+            "rows": []
+            """);
+    }
+}
@@ -17,7 +17,12 @@ package org.tabletest.gradle;
 
 import org.gradle.api.Project;
 import org.gradle.api.artifacts.Dependency;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.FileSystemLocation;
+import org.gradle.api.provider.Provider;
 import org.gradle.testfixtures.ProjectBuilder;
+import org.gradle.work.FileChange;
+import org.gradle.work.InputChanges;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -25,6 +30,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -33,6 +39,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TableTestReporterPluginTest {
 
+    private static final InputChanges FULL_RUN = new StubInputChanges(false);
+    private static final InputChanges INCREMENTAL_RUN = new StubInputChanges(true);
+
     @TempDir
     Path projectDir;
 
@@ -43,6 +52,8 @@ class TableTestReporterPluginTest {
     void setUp() {
         project = ProjectBuilder.builder().withProjectDir(projectDir.toFile()).build();
         project.getPluginManager().apply(TableTestReporterPlugin.class);
+        // A ProjectBuilder project has no distribution to start an isolated worker from
+        extension().getIsolation().set("none");
         buildDir = project.getLayout().getBuildDirectory().get().getAsFile().toPath();
     }
 
@@ -54,6 +65,13 @@ class TableTestReporterPluginTest {
         return (ReportTableTestsTask) project.getTasks().getByName("reportTableTests");
     }
 
+    /** Runs the report task and waits for the generation it submits, as Gradle does before the task completes. */
+    private void generate(InputChanges inputChanges) {
+        ReportTableTestsTask task = reportTask();
+        task.run(inputChanges);
+        task.getWorkerExecutor().await();
+    }
+
     private ListFormatsTask listFormatsTask() {
         return (ListFormatsTask) project.getTasks().getByName("listTableTestReportFormats");
     }
@@ -100,7 +118,7 @@ class TableTestReporterPluginTest {
                   - "value": "Yes"
             """);
 
-        reportTask().run();
+        generate(FULL_RUN);
 
         assertThat(outputDir().resolve("index.adoc")).exists();
         assertThat(outputDir().resolve("calendar-test")).isDirectory();
@@ -114,7 +132,7 @@ class TableTestReporterPluginTest {
         Path templateDir = setupCustomTemplateDirectory(projectDir);
         extension().getTemplateDir().set(templateDir.toFile());
 
-        reportTask().run();
+        generate(FULL_RUN);
 
         String content = Files.readString(findGeneratedTableFile(outputDir(), ".adoc"));
         assertThat(content).contains("CUSTOM HEADER");
@@ -128,7 +146,7 @@ class TableTestReporterPluginTest {
         setupInputDirectory(buildDir);
         extension().getTemplateDir().set(projectDir.resolve("nonexistent").toFile());
 
-        assertThatThrownBy(() -> reportTask().run()).hasMessageContaining("Template directory does not exist");
+        assertThatThrownBy(() -> generate(FULL_RUN)).hasMessageContaining("Template directory does not exist");
     }
 
     @Test
@@ -138,7 +156,7 @@ class TableTestReporterPluginTest {
         Files.writeString(notADirectory, "not a directory");
         extension().getTemplateDir().set(notADirectory.toFile());
 
-        assertThatThrownBy(() -> reportTask().run()).hasMessageContaining("Template path is not a directory");
+        assertThatThrownBy(() -> generate(FULL_RUN)).hasMessageContaining("Template path is not a directory");
     }
 
     @Test
@@ -146,7 +164,7 @@ class TableTestReporterPluginTest {
         setupInputDirectory(buildDir);
         extension().getFormat().set("markdown");
 
-        reportTask().run();
+        generate(FULL_RUN);
 
         String content = Files.readString(findGeneratedTableFile(outputDir(), ".md"));
         assertThat(content).contains("## Test Table");
@@ -159,7 +177,7 @@ class TableTestReporterPluginTest {
         setupInputDirectory(buildDir);
         extension().getFormat().set("md");
 
-        reportTask().run();
+        generate(FULL_RUN);
 
         assertThat(findGeneratedIndexFile(outputDir(), ".md")).exists();
     }
@@ -169,7 +187,7 @@ class TableTestReporterPluginTest {
         setupInputDirectory(buildDir);
         extension().getFormat().set("adoc");
 
-        reportTask().run();
+        generate(FULL_RUN);
 
         assertThat(findGeneratedIndexFile(outputDir(), ".adoc")).exists();
     }
@@ -179,14 +197,14 @@ class TableTestReporterPluginTest {
         setupInputDirectory(buildDir);
         extension().getFormat().set("invalid-format");
 
-        assertThatThrownBy(() -> reportTask().run()).hasMessageContaining("Unknown format");
+        assertThatThrownBy(() -> generate(FULL_RUN)).hasMessageContaining("Unknown format");
     }
 
     @Test
     void reportTask_uses_builtin_template_when_no_template_dir_provided() throws IOException {
         setupInputDirectory(buildDir);
 
-        reportTask().run();
+        generate(FULL_RUN);
 
         String content = Files.readString(findGeneratedTableFile(outputDir(), ".adoc"));
         assertThat(content).startsWith("==");
@@ -211,6 +229,46 @@ class TableTestReporterPluginTest {
         assertThat(trackedSourceFileNames()).contains("TABLETEST-custom.yaml");
     }
 
+    @Test
+    void reportTask_tracks_only_tabletest_yaml_as_task_inputs() throws IOException {
+        setupInputDirectory(buildDir);
+        Files.writeString(buildDir.resolve("junit-jupiter").resolve("other.yaml"), "unrelated: true\n");
+
+        assertThat(trackedSourceFileNames()).doesNotContain("other.yaml");
+    }
+
+    @Test
+    void reportTask_fails_when_isolation_is_invalid() throws IOException {
+        setupInputDirectory(buildDir);
+        extension().getIsolation().set("thread");
+
+        assertThatThrownBy(() -> generate(FULL_RUN)).hasMessageContaining("Unknown isolation 'thread'");
+    }
+
+    @Test
+    void reportTask_leaves_unchanged_pages_alone_when_run_incrementally() throws IOException {
+        setupInputDirectory(buildDir);
+        generate(FULL_RUN);
+        Path tablePage = findGeneratedTableFile(outputDir(), ".adoc");
+        Files.writeString(tablePage, "untouched");
+
+        generate(INCREMENTAL_RUN);
+
+        assertThat(tablePage).hasContent("untouched");
+    }
+
+    @Test
+    void reportTask_renders_every_page_when_not_run_incrementally() throws IOException {
+        setupInputDirectory(buildDir);
+        generate(FULL_RUN);
+        Path tablePage = findGeneratedTableFile(outputDir(), ".adoc");
+        Files.writeString(tablePage, "untouched");
+
+        generate(FULL_RUN);
+
+        assertThat(Files.readString(tablePage)).contains("|===");
+    }
+
     @Test
     void reportTask_runs_after_test_tasks() {
         project.getPluginManager().apply("java");
@@ -294,7 +352,7 @@ class TableTestReporterPluginTest {
         extension().getInputDirs().from(core.toFile(), junit.toFile());
         extension().getFormat().set("markdown");
 
-        reportTask().run();
+        generate(FULL_RUN);
 
         assertThat(outputDir().resolve("core/parser-test/rule.md")).exists();
         assertThat(outputDir().resolve("junit/slugify-test/rule.md")).exists();
@@ -308,7 +366,7 @@ class TableTestReporterPluginTest {
                 .from(core.toFile(), projectDir.resolve("never-built").toFile());
         extension().getFormat().set("markdown");
 
-        reportTask().run();
+        generate(FULL_RUN);
 
         assertThat(outputDir().resolve("parser-test/rule.md")).exists();
     }
@@ -321,7 +379,7 @@ class TableTestReporterPluginTest {
                         projectDir.resolve("missing-one").toFile(),
                         projectDir.resolve("missing-two").toFile());
 
-        assertThatThrownBy(() -> reportTask().run())
+        assertThatThrownBy(() -> generate(FULL_RUN))
                 .hasMessageContaining("missing-one")
                 .hasMessageContaining("missing-two");
     }
@@ -409,4 +467,18 @@ class TableTestReporterPluginTest {
                     .orElseThrow();
         }
     }
+
+    /** Changes as Gradle hands them to the task action; the reporter finds what changed itself. */
+    private record StubInputChanges(boolean isIncremental) implements InputChanges {
+
+        @Override
+        public Iterable<FileChange> getFileChanges(FileCollection parameter) {
+            return List.of();
+        }
+
+        @Override
+        public Iterable<FileChange> getFileChanges(Provider<? extends FileSystemLocation> parameter) {
+            return List.of();
+        }
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.reporter.junit;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Optional;
+
+/**
+ * Turns the cause of a failed invocation into the message published for it, as soon as the
+ * invocation fails, so results kept until the class finishes hold a short string rather than the
+ * exception. An exception holds its cause chain and stack trace and whatever an assertion
+ * captured; a class with thousands of failing rows would otherwise keep all of them.
+ * <p>
+ * The message is cut at {@code tabletest.reporter.failure.maxLength} characters (default
+ * {@value #DEFAULT_MAX_LENGTH}, {@code 0} for no limit). With
+ * {@code tabletest.reporter.failure.stackFrames} set, that many of the top stack frames follow it.
+ * The parameters are read once per test run; a value that is not a whole number, zero or more, is
+ * reported on standard error and the default used instead, so a typo cannot lose the results.
+ */
+final class FailureMessage {
+
+    static final String MAX_LENGTH_PARAMETER = "tabletest.reporter.failure.maxLength";
+    static final String STACK_FRAMES_PARAMETER = "tabletest.reporter.failure.stackFrames";
+    static final int DEFAULT_MAX_LENGTH = 1000;
+
+    private static final String ELLIPSIS = "…";
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(FailureMessage.class);
+
+    private final int maxLength;
+    private final int stackFrames;
+
+    FailureMessage(int maxLength, int stackFrames) {
+        this.maxLength = maxLength;
+        this.stackFrames = stackFrames;
+    }
+
+    /** The failure messages configured for a test run, resolved on first use and kept in the root store. */
+    static FailureMessage configuredFor(ExtensionContext context) {
+        return context.getRoot()
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(FailureMessage.class, key -> resolve(context), FailureMessage.class);
+    }
+
+    private static FailureMessage resolve(ExtensionContext context) {
+        return new FailureMessage(
+                intParameter(context, MAX_LENGTH_PARAMETER, DEFAULT_MAX_LENGTH),
+                intParameter(context, STACK_FRAMES_PARAMETER, 0));
+    }
+
+    /** The message to publish for a failure, or null if it has neither message nor frames to show. */
+    String describe(Throwable cause) {
+        if (cause == null) {
+            return null;
+        }
+        String message = truncate(cause.getMessage());
+        if (stackFrames == 0) {
+            return message;
+        }
+        StringBuilder described = new StringBuilder(message != null ? message : cause.getClass().getName());
+        StackTraceElement[] frames = cause.getStackTrace();
+        for (int i = 0; i < Math.min(stackFrames, frames.length); i++) {
+            described.append("\n\tat ").append(frames[i]);
+        }
+        return described.toString();
+    }
+
+    private String truncate(String message) {
+        if (message == null || maxLength == 0 || message.length() <= maxLength) {
+            return message;
+        }
+        int end = Character.isHighSurrogate(message.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return message.substring(0, end) + ELLIPSIS;
+    }
+
+    private static int intParameter(ExtensionContext context, String name, int defaultValue) {
+        Optional<String> configured = context.getConfigurationParameter(name);
+        if (configured.isEmpty()) {
+            return defaultValue;
+        }
+        String value = configured.get().strip();
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        warnInvalid(name, value, defaultValue);
+        return defaultValue;
+    }
+
+    private static void warnInvalid(String name, String value, int defaultValue) {
+        System.err.printf(
+                "tabletest-reporter: invalid %s '%s' - expected a whole number, zero or more; using %d%n",
+                name, value, defaultValue);
+    }
+}
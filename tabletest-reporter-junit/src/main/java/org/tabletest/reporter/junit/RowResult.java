@@ -21,7 +21,8 @@ package org.tabletest.reporter.junit;
  * @param rowIndex     The JUnit invocation index (1-based). With value-set expansion a table
  *                     row produces several invocations, so this does not map 1:1 to table rows
  * @param passed       Whether the test passed for this invocation
- * @param cause        The exception if the test failed, null if passed
+ * @param errorMessage The failure's message as published, null if passed. Only the message is
+ *                     kept, so results held until the class finishes never retain the exception
  * @param displayName  The display name of the test invocation
  */
-public record RowResult(int rowIndex, boolean passed, Throwable cause, String displayName) {}
+public record RowResult(int rowIndex, boolean passed, String errorMessage, String displayName) {}
@@ -37,7 +37,7 @@ public record RowResultData(int rowIndex, boolean passed, String displayName, St
                 result.rowIndex(),
                 result.passed(),
                 result.displayName(),
-                result.cause() != null ? result.cause().getMessage() : null);
+                result.errorMessage());
     }
 
     /**
@@ -43,6 +43,16 @@ public record TableTestData(
      * Converts this table test data to a map suitable for YAML serialization.
      */
     public Map<String, Object> toMap() {
+        Map<String, Object> map = headMap();
+        map.put("rows", rowMaps(0, rows.size()));
+        if (!rowResults.isEmpty()) {
+            map.put("rowResults", rowResultMaps());
+        }
+        return map;
+    }
+
+    /** The entries serialized ahead of the rows: identity and headers. */
+    Map<String, Object> headMap() {
         Map<String, Object> map = new LinkedHashMap<>();
         if (methodName != null) map.put("methodName", methodName);
         if (slug != null) map.put("slug", slug);
@@ -50,17 +60,18 @@ public record TableTestData(
         if (description != null) map.put("description", description);
 
         map.put("headers", headers.stream().map(CellData::toMap).toList());
+        return map;
+    }
 
-        map.put(
-                "rows",
-                rows.stream()
-                        .map(row -> row.cells().stream().map(CellData::toMap).toList())
-                        .toList());
-
-        if (!rowResults.isEmpty()) {
-            map.put("rowResults", rowResults.stream().map(RowResultData::toMap).toList());
-        }
+    /** The rows from {@code fromRow} (inclusive) to {@code toRow} (exclusive), as serialized. */
+    List<List<Map<String, Object>>> rowMaps(int fromRow, int toRow) {
+        return rows.subList(fromRow, toRow).stream()
+                .map(row -> row.cells().stream().map(CellData::toMap).toList())
+                .toList();
+    }
 
-        return map;
+    /** The row results, as serialized. */
+    List<Map<String, Object>> rowResultMaps() {
+        return rowResults.stream().map(RowResultData::toMap).toList();
     }
 }
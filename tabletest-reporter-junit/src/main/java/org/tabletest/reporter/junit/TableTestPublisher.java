@@ -22,12 +22,14 @@ import org.junit.jupiter.api.extension.TestWatcher;
 import org.tabletest.parser.Table;
 import org.tabletest.parser.TableParser;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.counting;
@@ -62,9 +64,11 @@ public class TableTestPublisher implements TestWatcher, AfterAllCallback {
                     ensureTableMetadataStored(parentContext, input);
 
                     // Store this invocation's result
+                    // Keep only the message: the exception may hold far more than the report shows
                     int rowIndex = getInvocationIndex(context);
+                    String errorMessage = FailureMessage.configuredFor(context).describe(cause);
                     store.storeRowResult(
-                            parentContext, new RowResult(rowIndex, passed, cause, context.getDisplayName()));
+                            parentContext, new RowResult(rowIndex, passed, errorMessage, context.getDisplayName()));
                 }));
     }
 
@@ -157,11 +161,11 @@ public class TableTestPublisher implements TestWatcher, AfterAllCallback {
 
         TableTestData data = createTableTestData(methodContext, identity, uniqueSlug, table, rowResults);
 
-        publishFile(classContext, uniqueSlug, (Path path) -> {
+        publishFile(classContext, uniqueSlug, (path, out) -> {
             store.storePublishedTableTest(
                     methodContext,
                     new PublishedTableTestInfo(path, identity.title(), identity.methodName(), uniqueSlug));
-            return YAML_RENDERER.render(data);
+            YAML_RENDERER.render(data, out);
         });
     }
 
@@ -187,20 +191,27 @@ public class TableTestPublisher implements TestWatcher, AfterAllCallback {
     private void publishTestClass(ExtensionContext context, TestClassIdentity identity) {
         List<PublishedTableTestInfo> publishedTests = store.getPublishedTableTests(context);
 
-        publishFile(context, identity.slug(), (Path path) -> {
+        publishFile(context, identity.slug(), (path, out) -> {
             List<PublishedTableTest> tableTests = buildPublishedTableTests(path.getParent(), publishedTests);
             TestClassData data = new TestClassData(
                     identity.className(), identity.slug(), identity.title(), identity.description(), tableTests);
-            return YAML_RENDERER.render(data);
+            out.write(YAML_RENDERER.render(data));
         });
     }
 
     @SuppressWarnings("removal")
-    private static void publishFile(ExtensionContext context, String fileName, Function<Path, String> renderer) {
-        context.publishFile(
-                FILENAME_PREFIX + fileName + YAML_EXTENSION,
-                MediaType.TEXT_PLAIN_UTF_8,
-                path -> Files.writeString(path, renderer.apply(path)));
+    private static void publishFile(ExtensionContext context, String fileName, YamlWriter renderer) {
+        context.publishFile(FILENAME_PREFIX + fileName + YAML_EXTENSION, MediaType.TEXT_PLAIN_UTF_8, path -> {
+            try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                renderer.write(path, out);
+            }
+        });
+    }
+
+    /** Writes the YAML of a published file, given the path it is published at. */
+    @FunctionalInterface
+    private interface YamlWriter {
+        void write(Path path, Writer out) throws IOException;
     }
 
     private static List<PublishedTableTest> buildPublishedTableTests(
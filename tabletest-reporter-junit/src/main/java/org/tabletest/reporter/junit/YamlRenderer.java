@@ -20,11 +20,19 @@ import org.snakeyaml.engine.v2.api.DumpSettings;
 import org.snakeyaml.engine.v2.common.FlowStyle;
 import org.snakeyaml.engine.v2.common.ScalarStyle;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Renders table tests and test indices to YAML format.
  */
 class YamlRenderer {
 
+    /** Rows dumped at a time when a table is written to a stream. */
+    static final int ROWS_PER_BLOCK = 500;
+
     private static final DumpSettings SETTINGS = DumpSettings.builder()
             .setDefaultFlowStyle(FlowStyle.BLOCK)
             .setIndent(2)
@@ -44,6 +52,29 @@ class YamlRenderer {
         return yaml.dumpToString(data.toMap());
     }
 
+    /**
+     * Renders table test data to YAML, writing the rows {@value #ROWS_PER_BLOCK} at a time so a
+     * table of any size is never held as one document. The output is the same as
+     * {@link #render(TableTestData)}: a block sequence under a key is not indented, so each block
+     * dumps as it would inside the table.
+     */
+    void render(TableTestData data, Writer out) throws IOException {
+        int rowCount = data.rows().size();
+        if (rowCount == 0) {
+            out.write(render(data));
+            return;
+        }
+        out.write(yaml.dumpToString(data.headMap()));
+        out.write("\"rows\":\n");
+        for (int fromRow = 0; fromRow < rowCount; fromRow += ROWS_PER_BLOCK) {
+            out.write(yaml.dumpToString(data.rowMaps(fromRow, Math.min(fromRow + ROWS_PER_BLOCK, rowCount))));
+        }
+        List<Map<String, Object>> rowResults = data.rowResultMaps();
+        if (!rowResults.isEmpty()) {
+            out.write(yaml.dumpToString(Map.of("rowResults", rowResults)));
+        }
+    }
+
     /**
      * Renders test class data to YAML.
      */
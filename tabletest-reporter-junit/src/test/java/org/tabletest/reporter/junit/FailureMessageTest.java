@@ -0,0 +1,62 @@
+package org.tabletest.reporter.junit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tabletest.junit.Description;
+import org.tabletest.junit.TableTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FailureMessageTest {
+
+    @DisplayName("Cuts a long failure message")
+    @Description("""
+        Only the message of a failure is kept until the class finishes, cut to the configured
+        length so a failure with a huge message cannot hold it for thousands of rows. A length
+        of zero keeps the message whole.
+        """)
+    @TableTest("""
+        Scenario          | Max Length | Message             | Published?
+        Shorter than max  | 20         | expected: <5>       | expected: <5>
+        Exactly max       | 13         | expected: <5>       | expected: <5>
+        Longer than max   | 8          | expected: <5>       | expected…
+        No limit          | 0          | expected: <5>       | expected: <5>
+        No message at all | 8          |                     |
+        """)
+    void cutsLongMessages(int maxLength, String message, String published) {
+        assertEquals(published, new FailureMessage(maxLength, 0).describe(new RuntimeException(message)));
+    }
+
+    @Test
+    void followsTheMessageWithTheTopStackFrames() {
+        AssertionError cause = new AssertionError("expected: <5>");
+        cause.setStackTrace(new StackTraceElement[] {
+            new StackTraceElement("org.example.LeapYearTest", "leapYears", "LeapYearTest.java", 12),
+            new StackTraceElement("org.example.Runner", "run", "Runner.java", 40),
+            new StackTraceElement("org.example.Runner", "main", "Runner.java", 7)
+        });
+
+        assertEquals(
+                """
+                expected: <5>
+                \tat org.example.LeapYearTest.leapYears(LeapYearTest.java:12)
+                \tat org.example.Runner.run(Runner.java:40)""",
+                new FailureMessage(0, 2).describe(cause));
+    }
+
+    @Test
+    void namesTheExceptionWhenOnlyFramesAreShown() {
+        NullPointerException cause = new NullPointerException();
+        cause.setStackTrace(new StackTraceElement[] {new StackTraceElement("Calendar", "next", "Calendar.java", 3)});
+
+        assertEquals(
+                "java.lang.NullPointerException\n\tat Calendar.next(Calendar.java:3)",
+                new FailureMessage(0, 1).describe(cause));
+    }
+
+    @Test
+    void publishesNothingForAPassedInvocation() {
+        assertNull(new FailureMessage(FailureMessage.DEFAULT_MAX_LENGTH, 3).describe(null));
+    }
+}
@@ -202,6 +202,23 @@ class TableTestPublisherTest {
                 """, Files.readString(yamlFile));
     }
 
+    @Test
+    void shouldPublishFailureWithDefaultLengthWhenConfiguredLengthIsInvalid() throws IOException {
+        var results = EngineTestKit.engine("junit-jupiter")
+                .selectors(selectClass(OneRowFailsTest.class))
+                .enableImplicitConfigurationParameters(true)
+                .configurationParameter(FailureMessage.MAX_LENGTH_PARAMETER, "lots")
+                .outputDirectoryCreator(createOutputDirectoryCreator())
+                .execute();
+
+        results.testEvents()
+                .assertStatistics(stats -> stats.started(3).succeeded(2).failed(1));
+
+        String yaml = Files.readString(findExpectedYamlFile(tempDir, "One row fails"));
+        assertTrue(yaml.contains("\"errorMessage\": \"expected: <5> but was: <4>\""), yaml);
+        assertTrue(yaml.contains("\"displayName\": \"[3] Should also pass\""), yaml);
+    }
+
     private @NonNull OutputDirectoryCreator createOutputDirectoryCreator() {
         return new OutputDirectoryCreator() {
             @Override
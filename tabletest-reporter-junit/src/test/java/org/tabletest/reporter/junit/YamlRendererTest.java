@@ -3,8 +3,11 @@ package org.tabletest.reporter.junit;
 import org.junit.jupiter.api.Test;
 import org.tabletest.parser.TableParser;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -429,7 +432,7 @@ public class YamlRendererTest {
         String yaml = renderer.render(new TableMetadata()
                 .withRowResults(List.of(
                         new RowResult(0, true, null, "test[1]"),
-                        new RowResult(1, false, new AssertionError("Expected 4"), "test[2]")))
+                        new RowResult(1, false, "Expected 4", "test[2]")))
                 .toTableTestData(TableParser.parse("""
                         a | b
                         1 | 2
@@ -455,4 +458,39 @@ public class YamlRendererTest {
                   "errorMessage": "Expected 4"
                 """, yaml);
     }
+
+    @Test
+    void shouldStreamRowsInBlocksAsTheyRenderWhole() throws IOException {
+        int rowCount = 2 * YamlRenderer.ROWS_PER_BLOCK + 1;
+        StringBuilder table = new StringBuilder("scenario | a? | b\n");
+        IntStream.range(0, rowCount).forEach(row -> table.append("row ")
+                .append(row)
+                .append(" | [")
+                .append(row)
+                .append("] | {x: ")
+                .append(row)
+                .append("}\n"));
+        TableTestData data = new TableMetadata()
+                .withTitle("Large")
+                .withColumnRoles(new ColumnRoles(0, Set.of(1)))
+                .withRowResults(IntStream.range(0, rowCount)
+                        .mapToObj(row -> new RowResult(row, row % 7 != 0, row % 7 != 0 ? null : "no", "test"))
+                        .toList())
+                .toTableTestData(TableParser.parse(table.toString()));
+
+        StringWriter streamed = new StringWriter();
+        renderer.render(data, streamed);
+
+        assertEquals(renderer.render(data), streamed.toString());
+    }
+
+    @Test
+    void shouldStreamTableWithoutRowsAsItRendersWhole() throws IOException {
+        TableTestData data = new TableMetadata().toTableTestData(TableParser.parse("a | b\n"));
+
+        StringWriter streamed = new StringWriter();
+        renderer.render(data, streamed);
+
+        assertEquals(renderer.render(data), streamed.toString());
+    }
 }
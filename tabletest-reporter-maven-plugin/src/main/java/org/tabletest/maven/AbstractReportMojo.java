@@ -23,16 +23,27 @@ import org.tabletest.reporter.ReportConfigurationResolver;
 import org.tabletest.reporter.ReportOptions;
 import org.tabletest.reporter.ReportResult;
 import org.tabletest.reporter.TableTestReporter;
+import org.tabletest.reporter.VariantOptions;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 /**
  * The report-level options and the report run itself, shared by the plugin's goals: one goal
  * reports a single project, the other aggregates a whole reactor, and they differ only in where the
  * input directories come from.
+ * <p>
+ * A goal remembers what it last reported from under {@code target/tabletest-reporter}. When
+ * neither the TableTest output nor the settings changed since, the goal has nothing to do; when
+ * only the output changed, it renders just the pages whose content changed, so a module whose
+ * tests did not run again costs no rendering.
  */
 abstract class AbstractReportMojo extends AbstractMojo {
 
@@ -53,14 +64,145 @@ abstract class AbstractReportMojo extends AbstractMojo {
     @Parameter(property = "tabletest.report.configFile", defaultValue = "${project.basedir}/tabletest-reporter.yaml")
     protected File configFile;
 
+    /**
+     * The generation time stated in the report, as an ISO-8601 instant or seconds since the epoch.
+     * Follows the project's reproducible-build timestamp by default, so an unchanged build writes an
+     * identical report; without one, {@code SOURCE_DATE_EPOCH} and then the time of the run apply.
+     */
+    @Parameter(property = "tabletest.report.generatedAt", defaultValue = "${project.build.outputTimestamp}")
+    protected String generatedAt;
+
+    /**
+     * The most rows a table page holds; a table of more rows continues on further pages. 0 gives
+     * every table one page.
+     */
+    @Parameter(property = "tabletest.report.rowsPerPage", defaultValue = "0")
+    protected int rowsPerPage;
+
+    /**
+     * The most rows an HTML table page lays out at once; a page of more rows lays out only those in
+     * view as the reader scrolls. 0 lays out every row.
+     */
+    @Parameter(property = "tabletest.report.virtualizeAbove", defaultValue = "0")
+    protected int virtualizeAbove;
+
+    /**
+     * Further formats to render the report in, each element named after the format and holding
+     * the directory its pages go to, e.g. {@code <markdown>${project.build.directory}/wiki</markdown>}.
+     * Every format renders from the same loaded test output, at the same time.
+     */
+    @Parameter
+    protected Map<String, String> additionalOutputs;
+
+    /**
+     * Further editions of the report, each a {@code <variant>} with a {@code <name>}, the
+     * {@code <configFile>} curating it and the {@code <outputDirectory>} it is written to. Every
+     * variant renders from the same loaded test output as the report.
+     */
+    @Parameter
+    protected List<Variant> variants;
+
+    /**
+     * Whether to skip the report when nothing it is made from changed since the last run, and
+     * otherwise render only the pages that changed. Set to false to render the whole report.
+     */
+    @Parameter(property = "tabletest.report.incremental", defaultValue = "true")
+    protected boolean incremental;
+
+    @Parameter(defaultValue = "${project.build.directory}/tabletest-reporter", readonly = true)
+    protected File stateDirectory;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    protected String pluginVersion;
+
     @Parameter(defaultValue = "${project.basedir}", readonly = true)
     protected File baseDirectory;
 
+    /** The goal's name, which keeps its state apart from other goals reporting in the same project. */
+    protected abstract String goal();
+
     /** Generates the report for the given input directories and logs its outcome. */
-    protected void generateReport(List<Path> inputDirs, Path outputDir) {
-        ReportConfiguration config = ReportConfigurationResolver.resolve(
-                new ReportOptions(format, toPath(templateDirectory), indexDepth, null, toPath(configFile)));
-        logResult(new TableTestReporter(config).report(inputDirs, outputDir));
+    protected void generateReport(List<Path> inputDirs, Path outputDir) throws IOException {
+        ReportConfiguration config = ReportConfigurationResolver.resolve(new ReportOptions(
+                format,
+                toPath(templateDirectory),
+                indexDepth,
+                null,
+                toPath(configFile),
+                fixedGenerationTime(),
+                rowsPerPage,
+                additionalOutputPaths(),
+                variantOptions(),
+                null,
+                virtualizeAbove));
+        TableTestReporter reporter = new TableTestReporter(config);
+        if (!incremental || stateDirectory == null) {
+            logResult(reporter.report(inputDirs, outputDir));
+            return;
+        }
+
+        ReportState state = ReportState.of(stateDirectory.toPath(), goal(), outputDir);
+        String settings = settingsDigest();
+        String inputs = ReportState.inputsDigest(inputDirs);
+        if (state.isCurrent(settings, inputs) && reporter.isComplete(outputDir, state.pageRecord())) {
+            getLog().info("TableTest report is up to date");
+            return;
+        }
+        state.reset(state.hasSettings(settings));
+        logResult(reporter.update(inputDirs, outputDir, state.pageRecord()));
+        state.record(settings, inputs);
+    }
+
+    /** The additional outputs by format name, each directory resolved against the project's base directory. */
+    private Map<String, Path> additionalOutputPaths() {
+        if (additionalOutputs == null) {
+            return null;
+        }
+        Path base = baseDirectory != null ? baseDirectory.toPath() : Path.of("");
+        Map<String, Path> paths = new TreeMap<>();
+        additionalOutputs.forEach((name, directory) ->
+                paths.put(name, directory == null || directory.isBlank() ? null : base.resolve(directory)));
+        return paths;
+    }
+
+    private List<VariantOptions> variantOptions() {
+        if (variants == null) {
+            return null;
+        }
+        return variants.stream()
+                .map(variant -> new VariantOptions(
+                        variant.getName(), toPath(variant.getConfigFile()), toPath(variant.getOutputDirectory())))
+                .toList();
+    }
+
+    /** Everything besides the TableTest output that shapes the pages: a change renders the whole report. */
+    private String settingsDigest() throws IOException {
+        List<String> values = Stream.of(
+                        pluginVersion,
+                        format,
+                        indexDepth,
+                        fixedGenerationTime(),
+                        String.valueOf(rowsPerPage),
+                        String.valueOf(virtualizeAbove),
+                        String.valueOf(additionalOutputPaths()),
+                        String.valueOf(variantOptions()))
+                .map(String::valueOf)
+                .toList();
+        List<Path> files = Stream.concat(
+                        Stream.of(templateDirectory, configFile),
+                        variants == null ? Stream.of() : variants.stream().map(Variant::getConfigFile))
+                .filter(Objects::nonNull)
+                .map(File::toPath)
+                .toList();
+        return ReportState.settingsDigest(values, files);
+    }
+
+    /**
+     * The configured generation time, or null when none is. Maven's convention lets a single
+     * character in {@code project.build.outputTimestamp} switch reproducible timestamps off.
+     */
+    private String fixedGenerationTime() {
+        return generatedAt == null || generatedAt.trim().length() < 2 ? null : generatedAt;
     }
 
     /** Reports the directories that are not there, without stopping a report the others can still fill. */
@@ -79,7 +221,7 @@ abstract class AbstractReportMojo extends AbstractMojo {
     }
 
     private void logResult(ReportResult result) {
-        if (result.filesGenerated() == 0) {
+        if (result.message() != null) {
             getLog().warn(result.message());
         } else {
             getLog().info("Generated " + result.filesGenerated() + " documentation file(s)");
@@ -24,7 +24,9 @@ import org.apache.maven.project.MavenProject;
 import org.tabletest.reporter.InputDirectories;
 
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -42,6 +44,11 @@ public final class AggregateMojo extends AbstractReportMojo {
     @Parameter(defaultValue = "${reactorProjects}", readonly = true)
     private List<MavenProject> reactorProjects;
 
+    @Override
+    protected String goal() {
+        return "aggregate";
+    }
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         try {
@@ -64,16 +71,23 @@ public final class AggregateMojo extends AbstractReportMojo {
         }
     }
 
-    /** Where each module of the reactor writes its TableTest output, in reactor order. */
+    /**
+     * Where each module of the reactor writes its TableTest output, in reactor order. The Surefire
+     * parameters the modules share are parsed once.
+     */
     private List<Path> moduleOutputDirectories() {
-        return reactorProjects == null
-                ? List.of()
-                : reactorProjects.stream().map(AggregateMojo::outputDirectoryOf).toList();
+        if (reactorProjects == null) {
+            return List.of();
+        }
+        Map<String, Optional<String>> parsedParameters = new HashMap<>();
+        return reactorProjects.stream()
+                .map(module -> outputDirectoryOf(module, parsedParameters))
+                .toList();
     }
 
-    private static Path outputDirectoryOf(MavenProject module) {
+    private static Path outputDirectoryOf(MavenProject module, Map<String, Optional<String>> parsedParameters) {
         Path moduleBaseDir = module.getBasedir().toPath();
-        return SurefireConfigurationParametersReader.resolveOutputDir(module, moduleBaseDir)
+        return SurefireConfigurationParametersReader.resolveOutputDir(module, moduleBaseDir, parsedParameters)
                 .orElseGet(() -> buildDirectoryOf(module, moduleBaseDir).resolve("junit-jupiter"));
     }
 
@@ -47,6 +47,11 @@ public final class ReportMojo extends AbstractReportMojo {
     @Parameter(defaultValue = "${project}", readonly = true)
     private MavenProject project;
 
+    @Override
+    protected String goal() {
+        return "report";
+    }
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         try {
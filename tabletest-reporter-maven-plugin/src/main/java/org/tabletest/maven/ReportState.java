@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.maven;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * What a goal last reported from, kept under the project's build directory so the next run can
+ * tell whether the report is still current. Two digests are kept: one of the settings — plugin
+ * version, options, templates and configuration file — and one of the TableTest output read. A run
+ * whose digests both match has nothing to do; one whose settings match renders only the pages
+ * whose content changed; any other renders the whole report.
+ * <p>
+ * Each goal and output directory keeps its own state, and every file is replaced in one move, so
+ * the projects of a parallel ({@code -T}) build never read another's state or a half-written one.
+ * Files are compared by path, size and modification time, as Maven compares sources.
+ */
+final class ReportState {
+
+    private static final String SETTINGS = "settings";
+    private static final String INPUTS = "inputs";
+    private static final String YAML_PREFIX = "TABLETEST-";
+    private static final String YAML_EXTENSION = ".yaml";
+
+    private final Path stateFile;
+    private final Path pageRecord;
+    private final Properties recorded;
+
+    private ReportState(Path stateFile, Path pageRecord, Properties recorded) {
+        this.stateFile = stateFile;
+        this.pageRecord = pageRecord;
+        this.recorded = recorded;
+    }
+
+    /**
+     * The state a goal keeps for the report it writes to an output directory.
+     *
+     * @param stateDirectory the directory holding the state of the project's goals
+     * @param goal the goal the state belongs to
+     * @param outputDirectory the directory the report is written to
+     */
+    static ReportState of(Path stateDirectory, String goal, Path outputDirectory) {
+        String name = goal + "-" + digest(outputDirectory.toAbsolutePath().normalize().toString()).substring(0, 12);
+        Path stateFile = stateDirectory.resolve(name + ".properties");
+        return new ReportState(stateFile, stateDirectory.resolve(name + "-pages.digest"), load(stateFile));
+    }
+
+    /**
+     * The file the reporter records what each page was rendered from in. Each additional format
+     * keeps its record beside it, named after it with the format appended.
+     */
+    Path pageRecord() {
+        return pageRecord;
+    }
+
+    /** Whether the last run reported from these settings and this output. */
+    boolean isCurrent(String settings, String inputs) {
+        return hasSettings(settings) && inputs.equals(recorded.getProperty(INPUTS));
+    }
+
+    /** Whether the last run reported with these settings, so its pages can be brought up to date. */
+    boolean hasSettings(String settings) {
+        return settings.equals(recorded.getProperty(SETTINGS));
+    }
+
+    /**
+     * Forgets the last run before a new one starts, so a run that fails is never taken as current.
+     *
+     * @param keepPages whether to keep the page record, so only changed pages render
+     */
+    void reset(boolean keepPages) throws IOException {
+        Files.deleteIfExists(stateFile);
+        if (!keepPages) {
+            Files.deleteIfExists(pageRecord);
+            deleteFormatRecords();
+        }
+    }
+
+    private void deleteFormatRecords() throws IOException {
+        Path directory = pageRecord.getParent();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        String prefix = pageRecord.getFileName() + ".";
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().startsWith(prefix))
+                    .toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /** Records a completed run. */
+    void record(String settings, String inputs) throws IOException {
+        Properties state = new Properties();
+        state.setProperty(SETTINGS, settings);
+        state.setProperty(INPUTS, inputs);
+        Files.createDirectories(stateFile.getParent());
+        Path written = Files.createTempFile(stateFile.getParent(), stateFile.getFileName().toString(), ".tmp");
+        try (Writer writer = Files.newBufferedWriter(written, StandardCharsets.UTF_8)) {
+            state.store(writer, null);
+        }
+        Files.move(written, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Digests the settings a report is rendered with: the given values in order, then every file
+     * under the given paths, each of which need not exist.
+     */
+    static String settingsDigest(List<String> values, List<Path> files) throws IOException {
+        StringBuilder fingerprint = new StringBuilder();
+        values.forEach(value -> fingerprint.append(value).append('\n'));
+        for (Path path : files) {
+            appendFiles(fingerprint, path, false);
+        }
+        return digest(fingerprint.toString());
+    }
+
+    /** Digests the TableTest output in the given directories, in the order they are read. */
+    static String inputsDigest(List<Path> inputDirectories) throws IOException {
+        StringBuilder fingerprint = new StringBuilder();
+        for (Path directory : inputDirectories) {
+            appendFiles(fingerprint, directory, true);
+        }
+        return digest(fingerprint.toString());
+    }
+
+    private static void appendFiles(StringBuilder fingerprint, Path root, boolean tableTestOutputOnly)
+            throws IOException {
+        fingerprint.append(root.toAbsolutePath().normalize()).append('\n');
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path file : paths.filter(Files::isRegularFile)
+                    .filter(file -> !tableTestOutputOnly || isTableTestOutput(file))
+                    .sorted()
+                    .toList()) {
+                fingerprint
+                        .append(root.relativize(file))
+                        .append(' ')
+                        .append(Files.size(file))
+                        .append(' ')
+                        .append(Files.getLastModifiedTime(file).toMillis())
+                        .append('\n');
+            }
+        }
+    }
+
+    private static boolean isTableTestOutput(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(YAML_PREFIX) && name.endsWith(YAML_EXTENSION);
+    }
+
+    private static Properties load(Path stateFile) {
+        Properties state = new Properties();
+        if (Files.isRegularFile(stateFile)) {
+            try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+                state.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                state.clear();
+            }
+        }
+        return state;
+    }
+
+    private static String digest(String fingerprint) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha.digest(fingerprint.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -21,6 +21,8 @@ import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.tabletest.reporter.JunitDirParser;
 
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.regex.Matcher;
@@ -37,11 +39,23 @@ final class SurefireConfigurationParametersReader {
     private SurefireConfigurationParametersReader() {}
 
     static Optional<Path> resolveOutputDir(MavenProject project, Path baseDir) {
+        return resolveOutputDir(project, baseDir, new HashMap<>());
+    }
+
+    /**
+     * Resolves a project's JUnit output directory, reusing the parse of configuration parameters
+     * other projects already declared. The modules of a reactor mostly inherit one Surefire
+     * configuration, so across a large reactor the same parameters are parsed once.
+     *
+     * @param parsed the output directory each parameter text names, keyed by that text once its
+     *     placeholders are resolved; shared between the projects resolved
+     */
+    static Optional<Path> resolveOutputDir(MavenProject project, Path baseDir, Map<String, Optional<String>> parsed) {
         if (project == null || baseDir == null) {
             return Optional.empty();
         }
         return findConfigurationParameters(project)
-                .flatMap(parameters -> extractOutputDir(parameters, project.getProperties()))
+                .flatMap(parameters -> extractOutputDir(parameters, project.getProperties(), parsed))
                 .flatMap(value -> JunitDirParser.parse(baseDir, value));
     }
 
@@ -63,7 +77,8 @@ final class SurefireConfigurationParametersReader {
         return Optional.ofNullable(properties.getChild(PARAMETERS_NODE));
     }
 
-    private static Optional<String> extractOutputDir(Xpp3Dom parametersNode, Properties properties) {
+    private static Optional<String> extractOutputDir(
+            Xpp3Dom parametersNode, Properties properties, Map<String, Optional<String>> parsed) {
         if (parametersNode.getChildCount() > 0) {
             for (Xpp3Dom child : parametersNode.getChildren()) {
                 if (OUTPUT_DIR_KEY.equals(child.getName())) {
@@ -79,7 +94,7 @@ final class SurefireConfigurationParametersReader {
             return Optional.empty();
         }
         String resolved = resolvePlaceholders(rawParameters, properties);
-        return parseOutputDir(resolved);
+        return parsed.computeIfAbsent(resolved, SurefireConfigurationParametersReader::parseOutputDir);
     }
 
     private static Optional<String> parseOutputDir(String parameters) {
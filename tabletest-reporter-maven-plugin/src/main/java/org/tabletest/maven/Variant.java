@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.maven;
+
+import java.io.File;
+
+/**
+ * One {@code <variant>} of the report: a further edition curated by a configuration file of its
+ * own and written to a directory of its own, rendered from the same loaded test output as the
+ * report.
+ */
+public class Variant {
+
+    /** The variant's name: letters, digits, '.', '_' or '-'. */
+    private String name;
+
+    /** The {@code tabletest-reporter.yaml} holding the variant's spec metadata and publish selection. */
+    private File configFile;
+
+    /** The directory to write the variant's pages to. */
+    private File outputDirectory;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public File getConfigFile() {
+        return configFile;
+    }
+
+    public void setConfigFile(File configFile) {
+        this.configFile = configFile;
+    }
+
+    public File getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    public void setOutputDirectory(File outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+}
@@ -24,7 +24,11 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -182,6 +186,24 @@ class ReportMojoTest {
         assertThat(content).contains("---");
     }
 
+    @Test
+    void execute_renders_additional_outputs_relative_to_the_project() throws Exception {
+        Path inputDir = setupInputDirectory(tempDir);
+        Path outputDir = tempDir.resolve("out");
+
+        ReportMojo mojo = new ReportMojo();
+        setField(mojo, "format", "html");
+        setField(mojo, "inputDirectory", inputDir.toFile());
+        setField(mojo, "outputDirectory", outputDir.toFile());
+        setField(mojo, "additionalOutputs", Map.of("markdown", "wiki"));
+        setField(mojo, "baseDirectory", tempDir.toFile());
+
+        mojo.execute();
+
+        assertThat(findGeneratedFile(outputDir, ".html")).exists();
+        assertThat(findGeneratedFile(tempDir.resolve("wiki"), ".md")).exists();
+    }
+
     @Test
     void execute_accepts_md_as_format_alias() throws Exception {
         Path inputDir = setupInputDirectory(tempDir);
@@ -348,6 +370,82 @@ class ReportMojoTest {
                 .hasMessageContaining("missing-two");
     }
 
+    @Test
+    void execute_skips_the_report_when_nothing_changed_since_the_last_run() throws Exception {
+        Path core = setupModuleInput("core-module", "org.example.core.ParserTest", "parser-test");
+        Path outDir = tempDir.resolve("incremental");
+        ReportMojo mojo = incrementalMojo(outDir, core);
+        mojo.execute();
+        Files.writeString(outDir.resolve("parser-test/rule.md"), "untouched");
+
+        mojo.execute();
+
+        assertThat(outDir.resolve("parser-test/rule.md")).hasContent("untouched");
+    }
+
+    @Test
+    void execute_writes_deleted_pages_again_when_nothing_changed_since_the_last_run() throws Exception {
+        Path core = setupModuleInput("core-module", "org.example.core.ParserTest", "parser-test");
+        Path outDir = tempDir.resolve("incremental");
+        ReportMojo mojo = incrementalMojo(outDir, core);
+        mojo.execute();
+        Files.writeString(outDir.resolve("parser-test/index.md"), "untouched");
+        Files.delete(outDir.resolve("parser-test/rule.md"));
+
+        mojo.execute();
+
+        assertThat(Files.readString(outDir.resolve("parser-test/rule.md"))).contains("Column A");
+        assertThat(outDir.resolve("parser-test/index.md")).hasContent("untouched");
+    }
+
+    @Test
+    void execute_renders_only_the_pages_of_changed_modules() throws Exception {
+        Path core = setupModuleInput("core-module", "org.example.core.ParserTest", "parser-test");
+        Path junit = setupModuleInput("junit-module", "org.example.junit.SlugifyTest", "slugify-test");
+        Path outDir = tempDir.resolve("incremental");
+        ReportMojo mojo = incrementalMojo(outDir, core, junit);
+        mojo.execute();
+        Files.writeString(outDir.resolve("core/parser-test/rule.md"), "untouched");
+
+        Path rerun = junit.resolve("org.example.junit.SlugifyTest/TABLETEST-rule.yaml");
+        Files.writeString(rerun, """
+            "title": "Rule"
+            "headers":
+            - "value": "Column B"
+            "rows": []
+            """);
+        Files.setLastModifiedTime(rerun, FileTime.from(Instant.now().plusSeconds(60)));
+        mojo.execute();
+
+        assertThat(outDir.resolve("core/parser-test/rule.md")).hasContent("untouched");
+        assertThat(Files.readString(outDir.resolve("junit/slugify-test/rule.md"))).contains("Column B");
+    }
+
+    @Test
+    void execute_renders_the_whole_report_when_a_setting_changed() throws Exception {
+        Path core = setupModuleInput("core-module", "org.example.core.ParserTest", "parser-test");
+        Path outDir = tempDir.resolve("incremental");
+        ReportMojo mojo = incrementalMojo(outDir, core);
+        mojo.execute();
+        Files.writeString(outDir.resolve("parser-test/rule.md"), "untouched");
+
+        setField(mojo, "indexDepth", "1");
+        mojo.execute();
+
+        assertThat(Files.readString(outDir.resolve("parser-test/rule.md"))).contains("Column A");
+    }
+
+    private ReportMojo incrementalMojo(Path outDir, Path... inputDirs) {
+        ReportMojo mojo = new ReportMojo();
+        setField(mojo, "format", "markdown");
+        setField(mojo, "inputDirectories", Stream.of(inputDirs).map(Path::toFile).toArray(File[]::new));
+        setField(mojo, "outputDirectory", outDir.toFile());
+        setField(mojo, "baseDirectory", tempDir.toFile());
+        setField(mojo, "incremental", true);
+        setField(mojo, "stateDirectory", tempDir.resolve("target/tabletest-reporter").toFile());
+        return mojo;
+    }
+
     /** One module's TableTest output: a single class with a single table. */
     private Path setupModuleInput(String module, String className, String slug) throws IOException {
         Path inputDir = tempDir.resolve(module);
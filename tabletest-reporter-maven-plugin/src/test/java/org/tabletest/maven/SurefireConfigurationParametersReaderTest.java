@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,6 +54,39 @@ class SurefireConfigurationParametersReaderTest {
         assertThat(resolved).contains(baseDir.resolve("target/custom-reports"));
     }
 
+    @Test
+    void parses_parameters_shared_by_several_projects_once() {
+        Map<String, Optional<String>> parsed = new HashMap<>();
+        MavenProject first = projectWithParameters("target/shared-reports");
+        MavenProject second = projectWithParameters("target/shared-reports");
+        MavenProject third = projectWithParameters("target/other-reports");
+
+        Optional<Path> fromFirst = SurefireConfigurationParametersReader.resolveOutputDir(first, baseDir, parsed);
+        Optional<Path> fromSecond = SurefireConfigurationParametersReader.resolveOutputDir(second, baseDir, parsed);
+        Optional<Path> fromThird = SurefireConfigurationParametersReader.resolveOutputDir(third, baseDir, parsed);
+
+        assertThat(fromFirst).contains(baseDir.resolve("target/shared-reports"));
+        assertThat(fromSecond).contains(baseDir.resolve("target/shared-reports"));
+        assertThat(fromThird).contains(baseDir.resolve("target/other-reports"));
+        assertThat(parsed).hasSize(2);
+    }
+
+    private static MavenProject projectWithParameters(String outputDir) {
+        MavenProject project = new MavenProject();
+        project.getProperties()
+                .setProperty("custom.junit.parameters", "junit.platform.reporting.output.dir=" + outputDir);
+
+        Plugin surefire = new Plugin();
+        surefire.setGroupId("org.apache.maven.plugins");
+        surefire.setArtifactId("maven-surefire-plugin");
+        surefire.setConfiguration(surefireConfiguration());
+
+        Build build = new Build();
+        build.addPlugin(surefire);
+        project.setBuild(build);
+        return project;
+    }
+
     private static Xpp3Dom surefireConfiguration() {
         Xpp3Dom configuration = new Xpp3Dom("configuration");
         Xpp3Dom properties = new Xpp3Dom("properties");